@@ -22,6 +22,7 @@
 package com.vaticle.typedb.client;
 
 import com.vaticle.typedb.client.api.connection.TypeDBClient;
+import com.vaticle.typedb.client.api.connection.TypeDBConnectionOptions;
 import com.vaticle.typedb.client.api.connection.TypeDBCredential;
 import com.vaticle.typedb.client.connection.cluster.ClusterClient;
 import com.vaticle.typedb.client.connection.core.CoreClient;
@@ -42,6 +43,14 @@ public class TypeDB {
         return CoreClient.create(address, parallelisation);
     }
 
+    public static TypeDBClient coreClient(String address, TypeDBConnectionOptions options) {
+        return CoreClient.create(address, options);
+    }
+
+    public static TypeDBClient coreClient(String address, int parallelisation, TypeDBConnectionOptions options) {
+        return CoreClient.create(address, parallelisation, options);
+    }
+
     public static TypeDBClient.Cluster clusterClient(String address, TypeDBCredential credential) {
         return ClusterClient.create(set(address), credential);
     }
@@ -58,4 +67,12 @@ public class TypeDB {
         return ClusterClient.create(addresses, credential, parallelisation);
     }
 
+    public static TypeDBClient.Cluster clusterClient(Set<String> addresses, TypeDBCredential credential, TypeDBConnectionOptions options) {
+        return ClusterClient.create(addresses, credential, options);
+    }
+
+    public static TypeDBClient.Cluster clusterClient(Set<String> addresses, TypeDBCredential credential, int parallelisation, TypeDBConnectionOptions options) {
+        return ClusterClient.create(addresses, credential, parallelisation, options);
+    }
+
 }
@@ -0,0 +1,85 @@
+/*
+ * Copyright (C) 2021 Vaticle
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.vaticle.typedb.client.api.answer;
+
+import javax.annotation.CheckReturnValue;
+import java.util.List;
+
+public interface AnswerBatch {
+
+    @CheckReturnValue
+    int size();
+
+    @CheckReturnValue
+    List<String> variables();
+
+    @CheckReturnValue
+    Column column(String variable);
+
+    interface Column {
+
+        @CheckReturnValue
+        String variable();
+
+        @CheckReturnValue
+        Kind kind();
+
+        @CheckReturnValue
+        Kind kind(int row);
+
+        @CheckReturnValue
+        long[] longs();
+
+        @CheckReturnValue
+        double[] doubles();
+
+        @CheckReturnValue
+        boolean[] booleans();
+
+        @CheckReturnValue
+        int[] codes();
+
+        @CheckReturnValue
+        List<String> dictionary();
+
+        @CheckReturnValue
+        byte[] iids();
+
+        @CheckReturnValue
+        int[] iidOffsets();
+
+        @CheckReturnValue
+        String iid(int row);
+    }
+
+    enum Kind {
+        NONE,
+        BOOLEAN,
+        LONG,
+        DOUBLE,
+        STRING,
+        DATETIME,
+        THING,
+        TYPE,
+        MIXED
+    }
+}
@@ -21,6 +21,7 @@
 
 package com.vaticle.typedb.client.api.concept;
 
+import com.vaticle.typedb.client.api.concept.thing.Attribute;
 import com.vaticle.typedb.client.api.concept.thing.Thing;
 import com.vaticle.typedb.client.api.concept.type.AttributeType;
 import com.vaticle.typedb.client.api.concept.type.EntityType;
@@ -29,6 +30,10 @@ import com.vaticle.typedb.client.api.concept.type.ThingType;
 
 import javax.annotation.CheckReturnValue;
 import javax.annotation.Nullable;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
 
 public interface ConceptManager {
 
@@ -52,6 +57,16 @@ public interface ConceptManager {
     @CheckReturnValue
     Thing getThing(String iid);
 
+    @CheckReturnValue
+    List<? extends Thing> getThings(Collection<String> iids);
+
+    @CheckReturnValue
+    Stream<? extends Thing> streamThings(Collection<String> iids);
+
+    // The answer has one entry per distinct thing, in the order of first appearance, so duplicate things are fetched once
+    @CheckReturnValue
+    Map<Thing, List<Attribute<?>>> getHas(Collection<? extends Thing> things, AttributeType... attributeTypes);
+
     @Nullable
     @CheckReturnValue
     EntityType getEntityType(String label);
@@ -0,0 +1,91 @@
+/*
+ * Copyright (C) 2021 Vaticle
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.vaticle.typedb.client.api.concept;
+
+import com.vaticle.typedb.client.api.concept.type.AttributeType;
+import com.vaticle.typedb.client.api.concept.type.AttributeType.ValueType;
+import com.vaticle.typedb.client.api.concept.type.RelationType;
+import com.vaticle.typedb.client.api.concept.type.RoleType;
+import com.vaticle.typedb.client.api.concept.type.ThingType;
+import com.vaticle.typedb.client.api.concept.type.Type;
+import com.vaticle.typedb.client.api.logic.Rule;
+import com.vaticle.typedb.client.common.Label;
+
+import javax.annotation.CheckReturnValue;
+import javax.annotation.Nullable;
+import java.util.stream.Stream;
+
+public interface SchemaSnapshot {
+
+    @CheckReturnValue
+    Stream<? extends Type> getTypes();
+
+    @Nullable
+    @CheckReturnValue
+    Type getType(Label label);
+
+    @Nullable
+    @CheckReturnValue
+    ThingType getThingType(String label);
+
+    @CheckReturnValue
+    boolean isAbstract(Type type);
+
+    @Nullable
+    @CheckReturnValue
+    Type getSupertype(Type type);
+
+    @CheckReturnValue
+    Stream<? extends Type> getSupertypes(Type type);
+
+    @CheckReturnValue
+    Stream<? extends Type> getSubtypes(Type type);
+
+    @CheckReturnValue
+    Stream<? extends AttributeType> getOwns(ThingType type);
+
+    @CheckReturnValue
+    Stream<? extends AttributeType> getOwns(ThingType type, ValueType valueType);
+
+    @CheckReturnValue
+    Stream<? extends AttributeType> getOwns(ThingType type, boolean keysOnly);
+
+    @CheckReturnValue
+    Stream<? extends AttributeType> getOwns(ThingType type, ValueType valueType, boolean keysOnly);
+
+    @CheckReturnValue
+    Stream<? extends RoleType> getPlays(ThingType type);
+
+    @CheckReturnValue
+    Stream<? extends RoleType> getRelates(RelationType type);
+
+    @Nullable
+    @CheckReturnValue
+    RoleType getRelates(RelationType type, String roleLabel);
+
+    @CheckReturnValue
+    Stream<? extends Rule> getRules();
+
+    @Nullable
+    @CheckReturnValue
+    Rule getRule(String label);
+}
@@ -24,8 +24,10 @@ package com.vaticle.typedb.client.api.concept.thing;
 import com.vaticle.typedb.client.api.connection.TypeDBTransaction;
 import com.vaticle.typedb.client.api.concept.type.RelationType;
 import com.vaticle.typedb.client.api.concept.type.RoleType;
+import com.vaticle.typedb.client.api.query.QueryFuture;
 
 import javax.annotation.CheckReturnValue;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Stream;
@@ -52,6 +54,14 @@ public interface Relation extends Thing {
 
         void removePlayer(RoleType roleType, Thing player);
 
+        void addPlayers(Map<? extends RoleType, ? extends Collection<? extends Thing>> players);
+
+        void removePlayers(Map<? extends RoleType, ? extends Collection<? extends Thing>> players);
+
+        QueryFuture<Void> addPlayerAsync(RoleType roleType, Thing player);
+
+        QueryFuture<Void> removePlayerAsync(RoleType roleType, Thing player);
+
         @CheckReturnValue
         Stream<? extends Thing> getPlayers(RoleType... roleTypes);
 
@@ -26,8 +26,10 @@ import com.vaticle.typedb.client.api.concept.Concept;
 import com.vaticle.typedb.client.api.concept.type.AttributeType;
 import com.vaticle.typedb.client.api.concept.type.RoleType;
 import com.vaticle.typedb.client.api.concept.type.ThingType;
+import com.vaticle.typedb.client.api.query.QueryFuture;
 
 import javax.annotation.CheckReturnValue;
+import java.util.Collection;
 import java.util.stream.Stream;
 
 public interface Thing extends Concept {
@@ -57,6 +59,16 @@ public interface Thing extends Concept {
 
         void unsetHas(Attribute<?> attribute);
 
+        void setHas(Collection<? extends Attribute<?>> attributes);
+
+        void unsetHas(Collection<? extends Attribute<?>> attributes);
+
+        QueryFuture<Void> setHasAsync(Attribute<?> attribute);
+
+        QueryFuture<Void> unsetHasAsync(Attribute<?> attribute);
+
+        QueryFuture<Void> deleteAsync();
+
         @CheckReturnValue
         Stream<? extends Attribute<?>> getHas(boolean onlyKey);
 
@@ -23,12 +23,15 @@ package com.vaticle.typedb.client.api.concept.type;
 
 import com.vaticle.typedb.client.api.connection.TypeDBTransaction;
 import com.vaticle.typedb.client.api.concept.thing.Attribute;
+import com.vaticle.typedb.client.api.query.QueryFuture;
 import com.vaticle.typedb.client.common.exception.TypeDBClientException;
 import com.vaticle.typedb.protocol.ConceptProto;
 
 import javax.annotation.CheckReturnValue;
 import javax.annotation.Nullable;
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.stream.Stream;
 
 import static com.vaticle.typedb.client.common.exception.ErrorMessage.Concept.BAD_VALUE_TYPE;
@@ -159,6 +162,8 @@ public interface AttributeType extends ThingType {
 
         void setSupertype(AttributeType attributeType);
 
+        QueryFuture<Void> setSupertypeAsync(AttributeType attributeType);
+
         @Override
         @CheckReturnValue
         Stream<? extends AttributeType> getSubtypes();
@@ -220,10 +225,17 @@ public interface AttributeType extends ThingType {
 
             Attribute.Boolean put(boolean value);
 
+            QueryFuture<? extends Attribute.Boolean> putAsync(boolean value);
+
+            List<? extends Attribute.Boolean> put(Collection<java.lang.Boolean> values);
+
             @Nullable
             @CheckReturnValue
             Attribute.Boolean get(boolean value);
 
+            @CheckReturnValue
+            QueryFuture<? extends Attribute.Boolean> getAsync(boolean value);
+
             @Override
             @CheckReturnValue
             Stream<? extends Attribute.Boolean> getInstances();
@@ -233,6 +245,8 @@ public interface AttributeType extends ThingType {
             Stream<? extends AttributeType.Boolean> getSubtypes();
 
             void setSupertype(AttributeType.Boolean booleanAttributeType);
+
+            QueryFuture<Void> setSupertypeAsync(AttributeType.Boolean booleanAttributeType);
         }
     }
 
@@ -258,10 +272,17 @@ public interface AttributeType extends ThingType {
 
             Attribute.Long put(long value);
 
+            QueryFuture<? extends Attribute.Long> putAsync(long value);
+
+            List<? extends Attribute.Long> put(Collection<java.lang.Long> values);
+
             @Nullable
             @CheckReturnValue
             Attribute.Long get(long value);
 
+            @CheckReturnValue
+            QueryFuture<? extends Attribute.Long> getAsync(long value);
+
             @Override
             @CheckReturnValue
             Stream<? extends Attribute.Long> getInstances();
@@ -271,6 +292,8 @@ public interface AttributeType extends ThingType {
             Stream<? extends AttributeType.Long> getSubtypes();
 
             void setSupertype(AttributeType.Long longAttributeType);
+
+            QueryFuture<Void> setSupertypeAsync(AttributeType.Long longAttributeType);
         }
     }
 
@@ -296,10 +319,17 @@ public interface AttributeType extends ThingType {
 
             Attribute.Double put(double value);
 
+            QueryFuture<? extends Attribute.Double> putAsync(double value);
+
+            List<? extends Attribute.Double> put(Collection<java.lang.Double> values);
+
             @Nullable
             @CheckReturnValue
             Attribute.Double get(double value);
 
+            @CheckReturnValue
+            QueryFuture<? extends Attribute.Double> getAsync(double value);
+
             @Override
             @CheckReturnValue
             Stream<? extends Attribute.Double> getInstances();
@@ -309,6 +339,8 @@ public interface AttributeType extends ThingType {
             Stream<? extends AttributeType.Double> getSubtypes();
 
             void setSupertype(AttributeType.Double doubleAttributeType);
+
+            QueryFuture<Void> setSupertypeAsync(AttributeType.Double doubleAttributeType);
         }
     }
 
@@ -334,10 +366,17 @@ public interface AttributeType extends ThingType {
 
             Attribute.String put(java.lang.String value);
 
+            QueryFuture<? extends Attribute.String> putAsync(java.lang.String value);
+
+            List<? extends Attribute.String> put(Collection<java.lang.String> values);
+
             @Nullable
             @CheckReturnValue
             Attribute.String get(java.lang.String value);
 
+            @CheckReturnValue
+            QueryFuture<? extends Attribute.String> getAsync(java.lang.String value);
+
             @Override
             @CheckReturnValue
             Stream<? extends Attribute.String> getInstances();
@@ -346,13 +385,20 @@ public interface AttributeType extends ThingType {
             @CheckReturnValue
             java.lang.String getRegex();
 
+            @CheckReturnValue
+            QueryFuture<java.lang.String> getRegexAsync();
+
             void setRegex(java.lang.String regex);
 
+            QueryFuture<Void> setRegexAsync(java.lang.String regex);
+
             @Override
             @CheckReturnValue
             Stream<? extends AttributeType.String> getSubtypes();
 
             void setSupertype(AttributeType.String stringAttributeType);
+
+            QueryFuture<Void> setSupertypeAsync(AttributeType.String stringAttributeType);
         }
     }
 
@@ -378,10 +424,17 @@ public interface AttributeType extends ThingType {
 
             Attribute.DateTime put(LocalDateTime value);
 
+            QueryFuture<? extends Attribute.DateTime> putAsync(LocalDateTime value);
+
+            List<? extends Attribute.DateTime> put(Collection<LocalDateTime> values);
+
             @Nullable
             @CheckReturnValue
             Attribute.DateTime get(LocalDateTime value);
 
+            @CheckReturnValue
+            QueryFuture<? extends Attribute.DateTime> getAsync(LocalDateTime value);
+
             @Override
             @CheckReturnValue
             Stream<? extends Attribute.DateTime> getInstances();
@@ -391,6 +444,8 @@ public interface AttributeType extends ThingType {
             Stream<? extends AttributeType.DateTime> getSubtypes();
 
             void setSupertype(AttributeType.DateTime dateTimeAttributeType);
+
+            QueryFuture<Void> setSupertypeAsync(AttributeType.DateTime dateTimeAttributeType);
         }
     }
 }
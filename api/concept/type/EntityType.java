@@ -23,6 +23,7 @@ package com.vaticle.typedb.client.api.concept.type;
 
 import com.vaticle.typedb.client.api.connection.TypeDBTransaction;
 import com.vaticle.typedb.client.api.concept.thing.Entity;
+import com.vaticle.typedb.client.api.query.QueryFuture;
 
 import javax.annotation.CheckReturnValue;
 import java.util.stream.Stream;
@@ -44,6 +45,8 @@ public interface EntityType extends ThingType {
         @CheckReturnValue
         Entity create();
 
+        QueryFuture<? extends Entity> createAsync();
+
         @Override
         @CheckReturnValue
         Stream<? extends Entity> getInstances();
@@ -53,5 +56,7 @@ public interface EntityType extends ThingType {
         Stream<? extends EntityType> getSubtypes();
 
         void setSupertype(EntityType superEntityType);
+
+        QueryFuture<Void> setSupertypeAsync(EntityType superEntityType);
     }
 }
@@ -23,6 +23,7 @@ package com.vaticle.typedb.client.api.concept.type;
 
 import com.vaticle.typedb.client.api.connection.TypeDBTransaction;
 import com.vaticle.typedb.client.api.concept.thing.Relation;
+import com.vaticle.typedb.client.api.query.QueryFuture;
 
 import javax.annotation.CheckReturnValue;
 import javax.annotation.Nullable;
@@ -43,6 +44,8 @@ public interface RelationType extends ThingType {
         @CheckReturnValue
         Relation create();
 
+        QueryFuture<? extends Relation> createAsync();
+
         @Override
         @CheckReturnValue
         Stream<? extends Relation> getInstances();
@@ -54,16 +57,27 @@ public interface RelationType extends ThingType {
         @CheckReturnValue
         RoleType getRelates(String roleLabel);
 
+        @CheckReturnValue
+        QueryFuture<? extends RoleType> getRelatesAsync(String roleLabel);
+
         void setRelates(String roleLabel);
 
+        QueryFuture<Void> setRelatesAsync(String roleLabel);
+
         void setRelates(String roleLabel, String overriddenLabel);
 
+        QueryFuture<Void> setRelatesAsync(String roleLabel, String overriddenLabel);
+
         void unsetRelates(String roleLabel);
 
+        QueryFuture<Void> unsetRelatesAsync(String roleLabel);
+
         @Override
         @CheckReturnValue
         Stream<? extends RelationType> getSubtypes();
 
         void setSupertype(RelationType superRelationType);
+
+        QueryFuture<Void> setSupertypeAsync(RelationType superRelationType);
     }
 }
@@ -24,6 +24,7 @@ package com.vaticle.typedb.client.api.concept.type;
 import com.vaticle.typedb.client.api.connection.TypeDBTransaction;
 import com.vaticle.typedb.client.api.concept.thing.Thing;
 import com.vaticle.typedb.client.api.concept.type.AttributeType.ValueType;
+import com.vaticle.typedb.client.api.query.QueryFuture;
 
 import javax.annotation.CheckReturnValue;
 import java.util.stream.Stream;
@@ -45,6 +46,10 @@ public interface ThingType extends Type {
         @CheckReturnValue
         ThingType getSupertype();
 
+        @Override
+        @CheckReturnValue
+        QueryFuture<? extends ThingType> getSupertypeAsync();
+
         @Override
         @CheckReturnValue
         Stream<? extends ThingType> getSupertypes();
@@ -60,6 +65,10 @@ public interface ThingType extends Type {
 
         void unsetAbstract();
 
+        QueryFuture<Void> setAbstractAsync();
+
+        QueryFuture<Void> unsetAbstractAsync();
+
         void setPlays(RoleType roleType);
 
         void setPlays(RoleType roleType, RoleType overriddenType);
@@ -72,6 +81,18 @@ public interface ThingType extends Type {
 
         void setOwns(AttributeType attributeType);
 
+        QueryFuture<Void> setPlaysAsync(RoleType roleType);
+
+        QueryFuture<Void> setPlaysAsync(RoleType roleType, RoleType overriddenType);
+
+        QueryFuture<Void> setOwnsAsync(AttributeType attributeType, AttributeType overriddenType, boolean isKey);
+
+        QueryFuture<Void> setOwnsAsync(AttributeType attributeType, AttributeType overriddenType);
+
+        QueryFuture<Void> setOwnsAsync(AttributeType attributeType, boolean isKey);
+
+        QueryFuture<Void> setOwnsAsync(AttributeType attributeType);
+
         @CheckReturnValue
         Stream<? extends RoleType> getPlays();
 
@@ -90,5 +111,9 @@ public interface ThingType extends Type {
         void unsetPlays(RoleType roleType);
 
         void unsetOwns(AttributeType attributeType);
+
+        QueryFuture<Void> unsetPlaysAsync(RoleType roleType);
+
+        QueryFuture<Void> unsetOwnsAsync(AttributeType attributeType);
     }
 }
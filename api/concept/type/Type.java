@@ -23,6 +23,7 @@ package com.vaticle.typedb.client.api.concept.type;
 
 import com.vaticle.typedb.client.api.connection.TypeDBTransaction;
 import com.vaticle.typedb.client.api.concept.Concept;
+import com.vaticle.typedb.client.api.query.QueryFuture;
 import com.vaticle.typedb.client.common.Label;
 
 import javax.annotation.CheckReturnValue;
@@ -49,17 +50,27 @@ public interface Type extends Concept {
 
         void setLabel(String label);
 
+        QueryFuture<Void> setLabelAsync(String label);
+
         @CheckReturnValue
         boolean isAbstract();
 
+        @CheckReturnValue
+        QueryFuture<Boolean> isAbstractAsync();
+
         @Nullable
         @CheckReturnValue
         Type getSupertype();
 
+        @CheckReturnValue
+        QueryFuture<? extends Type> getSupertypeAsync();
+
         @CheckReturnValue
         Stream<? extends Type> getSupertypes();
 
         @CheckReturnValue
         Stream<? extends Type> getSubtypes();
+
+        QueryFuture<Void> deleteAsync();
     }
 }
@@ -25,6 +25,7 @@ import com.vaticle.typedb.client.api.connection.database.DatabaseManager;
 import com.vaticle.typedb.client.api.connection.user.UserManager;
 
 import javax.annotation.CheckReturnValue;
+import java.util.concurrent.CompletableFuture;
 
 public interface TypeDBClient extends AutoCloseable {
 
@@ -48,6 +49,8 @@ public interface TypeDBClient extends AutoCloseable {
 
     void close();
 
+    CompletableFuture<Void> closeAsync();
+
     interface Cluster extends TypeDBClient {
 
         @CheckReturnValue
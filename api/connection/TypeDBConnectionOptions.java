@@ -0,0 +1,84 @@
+/*
+ * Copyright (C) 2021 Vaticle
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.vaticle.typedb.client.api.connection;
+
+import com.vaticle.typedb.client.common.exception.TypeDBClientException;
+
+import javax.annotation.CheckReturnValue;
+import java.util.Optional;
+
+import static com.vaticle.typedb.client.common.exception.ErrorMessage.Client.NEGATIVE_VALUE;
+
+public class TypeDBConnectionOptions {
+
+    private Integer warmUpTimeoutMillis = null;
+    private Integer keepAliveTimeMillis = null;
+    private Integer cacheTimeoutMillis = null;
+
+    private TypeDBConnectionOptions() {}
+
+    @CheckReturnValue
+    public static TypeDBConnectionOptions defaults() {
+        return new TypeDBConnectionOptions();
+    }
+
+    @CheckReturnValue
+    public Optional<Integer> warmUpTimeoutMillis() {
+        return Optional.ofNullable(warmUpTimeoutMillis);
+    }
+
+    public TypeDBConnectionOptions warmUpTimeoutMillis(int warmUpTimeoutMillis) {
+        if (warmUpTimeoutMillis < 0) {
+            throw new TypeDBClientException(NEGATIVE_VALUE, warmUpTimeoutMillis);
+        }
+        // A timeout of 0 turns the warm-up off, so channels connect on first use as they do by default
+        this.warmUpTimeoutMillis = warmUpTimeoutMillis == 0 ? null : warmUpTimeoutMillis;
+        return this;
+    }
+
+    @CheckReturnValue
+    public Optional<Integer> keepAliveTimeMillis() {
+        return Optional.ofNullable(keepAliveTimeMillis);
+    }
+
+    public TypeDBConnectionOptions keepAliveTimeMillis(int keepAliveTimeMillis) {
+        if (keepAliveTimeMillis < 0) {
+            throw new TypeDBClientException(NEGATIVE_VALUE, keepAliveTimeMillis);
+        }
+        // A time of 0 turns keepalive pings off, as they are by default
+        this.keepAliveTimeMillis = keepAliveTimeMillis == 0 ? null : keepAliveTimeMillis;
+        return this;
+    }
+
+    @CheckReturnValue
+    public Optional<Integer> cacheTimeoutMillis() {
+        return Optional.ofNullable(cacheTimeoutMillis);
+    }
+
+    public TypeDBConnectionOptions cacheTimeoutMillis(int cacheTimeoutMillis) {
+        if (cacheTimeoutMillis < 0) {
+            throw new TypeDBClientException(NEGATIVE_VALUE, cacheTimeoutMillis);
+        }
+        this.cacheTimeoutMillis = cacheTimeoutMillis;
+        return this;
+    }
+}
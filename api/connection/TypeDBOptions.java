@@ -28,11 +28,15 @@ import javax.annotation.CheckReturnValue;
 import java.util.Optional;
 
 import static com.vaticle.typedb.client.common.exception.ErrorMessage.Client.NEGATIVE_VALUE_NOT_ALLOWED;
+import static com.vaticle.typedb.client.common.exception.ErrorMessage.Client.OPTIONS_FROZEN;
 import static com.vaticle.typedb.client.common.exception.ErrorMessage.Internal.ILLEGAL_CAST;
 import static com.vaticle.typedb.common.util.Objects.className;
 
 public class TypeDBOptions {
 
+    private static final TypeDBOptions CORE_DEFAULTS = core().freeze();
+    private static final TypeDBOptions.Cluster CLUSTER_DEFAULTS = cluster().freeze();
+
     private Boolean infer = null;
     private Boolean traceInference = null;
     private Boolean explain = null;
@@ -41,6 +45,10 @@ public class TypeDBOptions {
     private Integer prefetchSize = null;
     private Integer sessionIdleTimeoutMillis = null;
     private Integer schemaLockAcquireTimeoutMillis = null;
+    private Integer neighbourhoodCacheSize = null;
+    private Integer neighbourhoodCacheAnswers = null;
+    private volatile boolean isFrozen = false;
+    private volatile OptionsProto.Options cachedProto = null;
 
     private TypeDBOptions() {}
 
@@ -54,6 +62,50 @@ public class TypeDBOptions {
         return new Cluster();
     }
 
+    @CheckReturnValue
+    public static TypeDBOptions coreDefaults() {
+        return CORE_DEFAULTS;
+    }
+
+    @CheckReturnValue
+    public static TypeDBOptions.Cluster clusterDefaults() {
+        return CLUSTER_DEFAULTS;
+    }
+
+    public TypeDBOptions freeze() {
+        isFrozen = true;
+        return this;
+    }
+
+    @CheckReturnValue
+    public boolean isFrozen() {
+        return isFrozen;
+    }
+
+    @CheckReturnValue
+    public TypeDBOptions copy() {
+        return copyTo(core());
+    }
+
+    protected <OPTIONS extends TypeDBOptions> OPTIONS copyTo(OPTIONS copy) {
+        copy.infer = infer;
+        copy.traceInference = traceInference;
+        copy.explain = explain;
+        copy.parallel = parallel;
+        copy.prefetch = prefetch;
+        copy.prefetchSize = prefetchSize;
+        copy.sessionIdleTimeoutMillis = sessionIdleTimeoutMillis;
+        copy.schemaLockAcquireTimeoutMillis = schemaLockAcquireTimeoutMillis;
+        copy.neighbourhoodCacheSize = neighbourhoodCacheSize;
+        copy.neighbourhoodCacheAnswers = neighbourhoodCacheAnswers;
+        return copy;
+    }
+
+    protected void checkMutable() {
+        if (isFrozen) throw new TypeDBClientException(OPTIONS_FROZEN);
+        cachedProto = null;
+    }
+
     @CheckReturnValue
     public boolean isCluster() {
         return false;
@@ -65,6 +117,7 @@ public class TypeDBOptions {
     }
 
     public TypeDBOptions infer(boolean infer) {
+        checkMutable();
         this.infer = infer;
         return this;
     }
@@ -75,6 +128,7 @@ public class TypeDBOptions {
     }
 
     public TypeDBOptions traceInference(boolean traceInference) {
+        checkMutable();
         this.traceInference = traceInference;
         return this;
     }
@@ -85,6 +139,7 @@ public class TypeDBOptions {
     }
 
     public TypeDBOptions explain(boolean explain) {
+        checkMutable();
         this.explain = explain;
         return this;
     }
@@ -95,6 +150,7 @@ public class TypeDBOptions {
     }
 
     public TypeDBOptions parallel(boolean parallel) {
+        checkMutable();
         this.parallel = parallel;
         return this;
     }
@@ -105,6 +161,7 @@ public class TypeDBOptions {
     }
 
     public TypeDBOptions prefetch(boolean prefetch) {
+        checkMutable();
         this.prefetch = prefetch;
         return this;
     }
@@ -118,6 +175,7 @@ public class TypeDBOptions {
         if (prefetchSize < 1) {
             throw new TypeDBClientException(NEGATIVE_VALUE_NOT_ALLOWED, prefetchSize);
         }
+        checkMutable();
         this.prefetchSize = prefetchSize;
         return this;
     }
@@ -131,6 +189,7 @@ public class TypeDBOptions {
         if (sessionIdleTimeoutMillis < 1) {
             throw new TypeDBClientException(NEGATIVE_VALUE_NOT_ALLOWED, sessionIdleTimeoutMillis);
         }
+        checkMutable();
         this.sessionIdleTimeoutMillis = sessionIdleTimeoutMillis;
         return this;
     }
@@ -144,10 +203,41 @@ public class TypeDBOptions {
         if (schemaLockAcquireTimeoutMillis < 1) {
             throw new TypeDBClientException(NEGATIVE_VALUE_NOT_ALLOWED, schemaLockAcquireTimeoutMillis);
         }
+        checkMutable();
         this.schemaLockAcquireTimeoutMillis = schemaLockAcquireTimeoutMillis;
         return this;
     }
 
+    @CheckReturnValue
+    public Optional<Integer> neighbourhoodCacheSize() {
+        return Optional.ofNullable(neighbourhoodCacheSize);
+    }
+
+    public TypeDBOptions neighbourhoodCacheSize(int neighbourhoodCacheSize) {
+        // Not sent to the server: READ transactions keep the neighbourhoods of up to this many things in memory
+        if (neighbourhoodCacheSize < 1) {
+            throw new TypeDBClientException(NEGATIVE_VALUE_NOT_ALLOWED, neighbourhoodCacheSize);
+        }
+        checkMutable();
+        this.neighbourhoodCacheSize = neighbourhoodCacheSize;
+        return this;
+    }
+
+    @CheckReturnValue
+    public Optional<Integer> neighbourhoodCacheAnswers() {
+        return Optional.ofNullable(neighbourhoodCacheAnswers);
+    }
+
+    public TypeDBOptions neighbourhoodCacheAnswers(int neighbourhoodCacheAnswers) {
+        // Not sent to the server: the neighbourhood cache holds at most this many answers across all of its entries
+        if (neighbourhoodCacheAnswers < 1) {
+            throw new TypeDBClientException(NEGATIVE_VALUE_NOT_ALLOWED, neighbourhoodCacheAnswers);
+        }
+        checkMutable();
+        this.neighbourhoodCacheAnswers = neighbourhoodCacheAnswers;
+        return this;
+    }
+
     @CheckReturnValue
     public Cluster asCluster() {
         throw new TypeDBClientException(ILLEGAL_CAST, className(Cluster.class));
@@ -155,6 +245,13 @@ public class TypeDBOptions {
 
     @CheckReturnValue
     public OptionsProto.Options proto() {
+        // The proto is immutable, so it is built once and shared until the options change
+        OptionsProto.Options proto = cachedProto;
+        if (proto == null) cachedProto = proto = buildProto();
+        return proto;
+    }
+
+    private OptionsProto.Options buildProto() {
         OptionsProto.Options.Builder builder = OptionsProto.Options.newBuilder();
         infer().ifPresent(builder::setInfer);
         traceInference().ifPresent(builder::setTraceInference);
@@ -179,10 +276,25 @@ public class TypeDBOptions {
         }
 
         public Cluster readAnyReplica(boolean readAnyReplica) {
+            checkMutable();
             this.readAnyReplica = readAnyReplica;
             return this;
         }
 
+        @Override
+        public Cluster freeze() {
+            super.freeze();
+            return this;
+        }
+
+        @Override
+        @CheckReturnValue
+        public Cluster copy() {
+            Cluster copy = copyTo(cluster());
+            copy.readAnyReplica = readAnyReplica;
+            return copy;
+        }
+
         @Override
         @CheckReturnValue
         public boolean isCluster() {
@@ -21,10 +21,12 @@
 
 package com.vaticle.typedb.client.api.connection;
 
+import com.vaticle.typedb.client.api.concept.SchemaSnapshot;
 import com.vaticle.typedb.client.api.connection.database.Database;
 import com.vaticle.typedb.protocol.SessionProto;
 
 import javax.annotation.CheckReturnValue;
+import java.time.Duration;
 
 public interface TypeDBSession extends AutoCloseable {
 
@@ -37,9 +39,17 @@ public interface TypeDBSession extends AutoCloseable {
     @CheckReturnValue
     Database database();
 
+    // Changing these options has no effect on an open session. When it was opened without options, every call
+    // returns a new mutable copy of the shared defaults
     @CheckReturnValue
     TypeDBOptions options();
 
+    @CheckReturnValue
+    Duration networkLatency();
+
+    @CheckReturnValue
+    SchemaSnapshot schemaSnapshot();
+
     @CheckReturnValue
     TypeDBTransaction transaction(TypeDBTransaction.Type type);
 
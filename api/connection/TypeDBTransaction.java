@@ -28,6 +28,8 @@ import com.vaticle.typedb.client.api.query.QueryManager;
 import com.vaticle.typedb.protocol.TransactionProto;
 
 import javax.annotation.CheckReturnValue;
+import java.util.List;
+import java.util.Optional;
 import java.util.stream.Stream;
 
 public interface TypeDBTransaction extends AutoCloseable {
@@ -38,6 +40,8 @@ public interface TypeDBTransaction extends AutoCloseable {
     @CheckReturnValue
     Type type();
 
+    // Changing these options has no effect on an open transaction. When it was opened without options, every call
+    // returns a new mutable copy of the shared defaults
     @CheckReturnValue
     TypeDBOptions options();
 
@@ -50,6 +54,10 @@ public interface TypeDBTransaction extends AutoCloseable {
     @CheckReturnValue
     QueryManager query();
 
+    // Empty unless this is a READ transaction, opened with a neighbourhood cache size in its options
+    @CheckReturnValue
+    Optional<? extends NeighbourhoodCacheMetrics> neighbourhoodCache();
+
     void commit();
 
     void rollback();
@@ -95,5 +103,9 @@ public interface TypeDBTransaction extends AutoCloseable {
         QueryFuture<TransactionProto.Transaction.Res> query(TransactionProto.Transaction.Req.Builder request);
 
         Stream<TransactionProto.Transaction.ResPart> stream(TransactionProto.Transaction.Req.Builder request);
+
+        List<QueryFuture<TransactionProto.Transaction.Res>> queryAll(List<TransactionProto.Transaction.Req.Builder> requests);
+
+        List<Stream<TransactionProto.Transaction.ResPart>> streamAll(List<TransactionProto.Transaction.Req.Builder> requests);
     }
 }
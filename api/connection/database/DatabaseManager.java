@@ -38,6 +38,8 @@ public interface DatabaseManager {
     @CheckReturnValue
     List<? extends Database> all();
 
+    void invalidate(String name);
+
     interface Cluster extends DatabaseManager {
 
         @Override
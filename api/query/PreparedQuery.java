@@ -0,0 +1,174 @@
+/*
+ * Copyright (C) 2021 Vaticle
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.vaticle.typedb.client.api.query;
+
+import com.vaticle.typedb.client.common.exception.TypeDBClientException;
+
+import javax.annotation.CheckReturnValue;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.vaticle.typedb.client.common.exception.ErrorMessage.Query.PARAMETER_CONTROL_CHARACTER;
+import static com.vaticle.typedb.client.common.exception.ErrorMessage.Query.PARAMETER_DOES_NOT_EXIST;
+import static com.vaticle.typedb.client.common.exception.ErrorMessage.Query.PARAMETER_NOT_BOUND;
+import static com.vaticle.typedb.client.common.exception.ErrorMessage.Query.PARAMETER_NOT_FINITE;
+
+public class PreparedQuery {
+
+    private static final char PARAMETER_PREFIX = '?';
+    private static final DateTimeFormatter DATETIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSS");
+
+    private final String[] segments;
+    private final int[] slots;
+    private final Map<String, Integer> parameters;
+    private final int segmentsLength;
+
+    private PreparedQuery(String[] segments, int[] slots, Map<String, Integer> parameters) {
+        this.segments = segments;
+        this.slots = slots;
+        this.parameters = parameters;
+        int length = 0;
+        for (String segment : segments) length += segment.length();
+        this.segmentsLength = length;
+    }
+
+    @CheckReturnValue
+    public static PreparedQuery prepare(String template) {
+        List<String> segments = new ArrayList<>();
+        List<Integer> slots = new ArrayList<>();
+        Map<String, Integer> parameters = new HashMap<>();
+        int segmentStart = 0;
+        int i = 0;
+        while (i < template.length()) {
+            char c = template.charAt(i);
+            if (c == '"' || c == '\'') {
+                i = skipString(template, i);
+            } else if (c == '#') {
+                while (i < template.length() && template.charAt(i) != '\n') i++;
+            } else if (c == PARAMETER_PREFIX) {
+                int nameEnd = i + 1;
+                while (nameEnd < template.length() && isNameChar(template.charAt(nameEnd))) nameEnd++;
+                if (nameEnd > i + 1) {
+                    segments.add(template.substring(segmentStart, i));
+                    slots.add(parameters.computeIfAbsent(template.substring(i + 1, nameEnd), name -> parameters.size()));
+                    segmentStart = nameEnd;
+                }
+                i = nameEnd;
+            } else {
+                i++;
+            }
+        }
+        segments.add(template.substring(segmentStart));
+        return new PreparedQuery(segments.toArray(new String[0]), slots.stream().mapToInt(Integer::intValue).toArray(), parameters);
+    }
+
+    private static int skipString(String template, int start) {
+        char quote = template.charAt(start);
+        int i = start + 1;
+        while (i < template.length() && template.charAt(i) != quote) {
+            if (template.charAt(i) == '\\') i++;
+            i++;
+        }
+        return i + 1;
+    }
+
+    private static boolean isNameChar(char c) {
+        return Character.isLetterOrDigit(c) || c == '_' || c == '-';
+    }
+
+    @CheckReturnValue
+    public Binding bind() {
+        return new Binding();
+    }
+
+    public class Binding {
+
+        private final String[] values;
+
+        private Binding() {
+            values = new String[parameters.size()];
+        }
+
+        public Binding set(String parameter, long value) {
+            return setLiteral(parameter, Long.toString(value));
+        }
+
+        public Binding set(String parameter, double value) {
+            if (!Double.isFinite(value)) throw new TypeDBClientException(PARAMETER_NOT_FINITE, parameter, value);
+            String literal = BigDecimal.valueOf(value).toPlainString();
+            return setLiteral(parameter, literal.indexOf('.') < 0 ? literal + ".0" : literal);
+        }
+
+        public Binding set(String parameter, boolean value) {
+            return setLiteral(parameter, Boolean.toString(value));
+        }
+
+        public Binding set(String parameter, String value) {
+            StringBuilder literal = new StringBuilder(value.length() + 2).append('"');
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                // Control characters are rejected, so a bound value can never break the query it is spliced into
+                if (Character.isISOControl(c)) throw new TypeDBClientException(PARAMETER_CONTROL_CHARACTER, parameter, (int) c);
+                if (c == '"' || c == '\\') literal.append('\\');
+                literal.append(c);
+            }
+            return setLiteral(parameter, literal.append('"').toString());
+        }
+
+        public Binding set(String parameter, LocalDateTime value) {
+            return setLiteral(parameter, value.format(DATETIME_FORMAT));
+        }
+
+        private Binding setLiteral(String parameter, String literal) {
+            Integer index = parameters.get(parameter);
+            if (index == null) throw new TypeDBClientException(PARAMETER_DOES_NOT_EXIST, parameter);
+            values[index] = literal;
+            return this;
+        }
+
+        @CheckReturnValue
+        public String query() {
+            int length = segmentsLength;
+            for (int slot : slots) {
+                if (values[slot] == null) throw new TypeDBClientException(PARAMETER_NOT_BOUND, parameterName(slot));
+                length += values[slot].length();
+            }
+            StringBuilder query = new StringBuilder(length).append(segments[0]);
+            for (int i = 0; i < slots.length; i++) query.append(values[slots[i]]).append(segments[i + 1]);
+            return query.toString();
+        }
+
+        private String parameterName(int slot) {
+            return parameters.entrySet().stream().filter(e -> e.getValue() == slot).findAny().get().getKey();
+        }
+
+        @Override
+        public String toString() {
+            return query();
+        }
+    }
+}
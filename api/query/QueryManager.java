@@ -22,6 +22,8 @@
 package com.vaticle.typedb.client.api.query;
 
 import com.vaticle.typedb.client.api.connection.TypeDBOptions;
+import com.vaticle.typedb.client.api.answer.AnswerBatch;
+import com.vaticle.typedb.client.api.answer.AnswerCursor;
 import com.vaticle.typedb.client.api.answer.ConceptMap;
 import com.vaticle.typedb.client.api.answer.ConceptMapGroup;
 import com.vaticle.typedb.client.api.answer.Numeric;
@@ -35,6 +37,9 @@ import com.vaticle.typeql.lang.query.TypeQLUndefine;
 import com.vaticle.typeql.lang.query.TypeQLUpdate;
 
 import javax.annotation.CheckReturnValue;
+import java.io.OutputStream;
+import java.nio.channels.WritableByteChannel;
+import java.util.List;
 import java.util.stream.Stream;
 
 public interface QueryManager {
@@ -51,6 +56,38 @@ public interface QueryManager {
     @CheckReturnValue
     Stream<ConceptMap> match(String query, TypeDBOptions options);
 
+    @CheckReturnValue
+    Stream<ConceptMap> match(PreparedQuery.Binding query);
+
+    @CheckReturnValue
+    Stream<ConceptMap> match(PreparedQuery.Binding query, TypeDBOptions options);
+
+    @CheckReturnValue
+    AnswerCursor matchCursor(String query);
+
+    @CheckReturnValue
+    AnswerCursor matchCursor(String query, TypeDBOptions options);
+
+    @CheckReturnValue
+    Stream<AnswerBatch> matchBatches(String query);
+
+    @CheckReturnValue
+    Stream<AnswerBatch> matchBatches(String query, TypeDBOptions options);
+
+    @CheckReturnValue
+    List<Stream<ConceptMap>> matchAll(List<String> queries);
+
+    @CheckReturnValue
+    List<Stream<ConceptMap>> matchAll(List<String> queries, TypeDBOptions options);
+
+    QueryFuture<Long> export(String query, List<String> variables, ExportFormat format, OutputStream output);
+
+    QueryFuture<Long> export(String query, List<String> variables, ExportFormat format, OutputStream output, TypeDBOptions options);
+
+    QueryFuture<Long> export(String query, List<String> variables, ExportFormat format, WritableByteChannel output);
+
+    QueryFuture<Long> export(String query, List<String> variables, ExportFormat format, WritableByteChannel output, TypeDBOptions options);
+
     @CheckReturnValue
     QueryFuture<Numeric> match(TypeQLMatch.Aggregate query);
 
@@ -95,6 +132,26 @@ public interface QueryManager {
 
     Stream<ConceptMap> insert(String query, TypeDBOptions options);
 
+    Stream<ConceptMap> insert(PreparedQuery.Binding query);
+
+    Stream<ConceptMap> insert(PreparedQuery.Binding query, TypeDBOptions options);
+
+    QueryFuture<Long> insertCount(TypeQLInsert query);
+
+    QueryFuture<Long> insertCount(TypeQLInsert query, TypeDBOptions options);
+
+    QueryFuture<Long> insertCount(String query);
+
+    QueryFuture<Long> insertCount(String query, TypeDBOptions options);
+
+    QueryFuture<Long> insertCount(PreparedQuery.Binding query);
+
+    QueryFuture<Long> insertCount(PreparedQuery.Binding query, TypeDBOptions options);
+
+    List<Stream<ConceptMap>> insertAll(List<String> queries);
+
+    List<Stream<ConceptMap>> insertAll(List<String> queries, TypeDBOptions options);
+
     QueryFuture<Void> delete(TypeQLDelete query);
 
     QueryFuture<Void> delete(TypeQLDelete query, TypeDBOptions options);
@@ -103,6 +160,14 @@ public interface QueryManager {
 
     QueryFuture<Void> delete(String query, TypeDBOptions options);
 
+    QueryFuture<Void> delete(PreparedQuery.Binding query);
+
+    QueryFuture<Void> delete(PreparedQuery.Binding query, TypeDBOptions options);
+
+    QueryFuture<Void> deleteAll(List<String> queries);
+
+    QueryFuture<Void> deleteAll(List<String> queries, TypeDBOptions options);
+
     Stream<ConceptMap> update(TypeQLUpdate query);
 
     Stream<ConceptMap> update(TypeQLUpdate query, TypeDBOptions options);
@@ -0,0 +1,315 @@
+/*
+ * Copyright (C) 2021 Vaticle
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.vaticle.typedb.client.arrow;
+
+import com.vaticle.typedb.client.api.answer.AnswerBatch;
+import com.vaticle.typedb.client.common.exception.TypeDBClientException;
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.vector.BigIntVector;
+import org.apache.arrow.vector.BitVector;
+import org.apache.arrow.vector.FieldVector;
+import org.apache.arrow.vector.Float8Vector;
+import org.apache.arrow.vector.TimeStampMilliVector;
+import org.apache.arrow.vector.VarBinaryVector;
+import org.apache.arrow.vector.VarCharVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.ipc.ArrowStreamWriter;
+import org.apache.arrow.vector.types.FloatingPointPrecision;
+import org.apache.arrow.vector.types.TimeUnit;
+import org.apache.arrow.vector.types.pojo.ArrowType;
+import org.apache.arrow.vector.types.pojo.Field;
+import org.apache.arrow.vector.types.pojo.Schema;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static com.vaticle.typedb.client.common.exception.ErrorMessage.Client.NEGATIVE_VALUE_NOT_ALLOWED;
+import static com.vaticle.typedb.client.common.exception.ErrorMessage.Query.COLUMN_KIND_MISMATCH;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+public class ArrowExporter {
+
+    private final BufferAllocator allocator;
+    private final List<String> variables;
+    private final int rowsPerBatch;
+    private final Map<String, AnswerBatch.Kind> kinds;
+
+    public ArrowExporter(BufferAllocator allocator, List<String> variables) {
+        this.allocator = allocator;
+        this.variables = variables;
+        this.rowsPerBatch = 0;
+        this.kinds = new HashMap<>();
+    }
+
+    public ArrowExporter(BufferAllocator allocator, List<String> variables, int rowsPerBatch) {
+        if (rowsPerBatch < 1) throw new TypeDBClientException(NEGATIVE_VALUE_NOT_ALLOWED, rowsPerBatch);
+        this.allocator = allocator;
+        this.variables = variables;
+        this.rowsPerBatch = rowsPerBatch;
+        this.kinds = new HashMap<>();
+    }
+
+    public ArrowExporter kind(String variable, AnswerBatch.Kind kind) {
+        // Variables without a declared kind take the kind of their column in the first batch
+        kinds.put(variable, kind);
+        return this;
+    }
+
+    public long forEach(Stream<AnswerBatch> answers, Consumer<VectorSchemaRoot> consumer) {
+        // The root is refilled as soon as the consumer returns, so vectors needed later must be moved out of it with a
+        // TransferPair inside the consumer, and a column that changes kind is widened to text in a new root
+        return export(answers, new Sink() {
+            @Override
+            void batch(VectorSchemaRoot root) {
+                consumer.accept(root);
+            }
+        });
+    }
+
+    public long write(Stream<AnswerBatch> answers, OutputStream output) {
+        return write(answers, Channels.newChannel(output));
+    }
+
+    public long write(Stream<AnswerBatch> answers, WritableByteChannel output) {
+        return export(answers, new Sink() {
+
+            private ArrowStreamWriter writer;
+
+            @Override
+            void start(VectorSchemaRoot root) throws IOException {
+                writer = new ArrowStreamWriter(root, null, output);
+                writer.start();
+            }
+
+            @Override
+            void batch(VectorSchemaRoot root) throws IOException {
+                writer.writeBatch();
+            }
+
+            @Override
+            void widen(String variable, FieldVector vector, AnswerBatch.Kind kind) {
+                // An Arrow stream has a single schema, so its columns cannot be widened once written
+                throw new TypeDBClientException(COLUMN_KIND_MISMATCH, variable, vector.getMinorType(), kind);
+            }
+
+            @Override
+            void end() throws IOException {
+                // The output belongs to the caller, so the writer ends the stream without closing it
+                writer.end();
+            }
+        });
+    }
+
+    private long export(Stream<AnswerBatch> answers, Sink sink) {
+        Iterator<AnswerBatch> batches = answers.iterator();
+        AnswerBatch batch = batches.hasNext() ? batches.next() : null;
+        VectorSchemaRoot root = VectorSchemaRoot.create(schema(batch), allocator);
+        try {
+            sink.start(root);
+            root.allocateNew();
+            long rows = 0;
+            int rootRows = 0;
+            while (batch != null) {
+                AnswerBatch.Column[] columns = columns(batch);
+                for (int row = 0; row < batch.size(); row++) {
+                    if (rowsPerBatch > 0 && rootRows == rowsPerBatch) {
+                        emit(root, rootRows, sink);
+                        rootRows = 0;
+                    }
+                    for (int i = mismatch(root, columns, row); i >= 0; i = mismatch(root, columns, row)) {
+                        sink.widen(variables.get(i), root.getVector(i), columns[i].kind(row));
+                        if (rootRows > 0) {
+                            emit(root, rootRows, sink);
+                            rootRows = 0;
+                        }
+                        VectorSchemaRoot widened = VectorSchemaRoot.create(widen(root.getSchema(), i), allocator);
+                        root.close();
+                        root = widened;
+                        root.allocateNew();
+                    }
+                    for (int i = 0; i < columns.length; i++) {
+                        write(root.getVector(i), columns[i], row, rootRows);
+                    }
+                    rootRows++;
+                    rows++;
+                }
+                if (rowsPerBatch == 0 && rootRows > 0) {
+                    emit(root, rootRows, sink);
+                    rootRows = 0;
+                }
+                batch = batches.hasNext() ? batches.next() : null;
+            }
+            if (rootRows > 0) emit(root, rootRows, sink);
+            sink.end();
+            return rows;
+        } catch (IOException e) {
+            throw new TypeDBClientException(e.getMessage(), e);
+        } finally {
+            root.close();
+        }
+    }
+
+    private void emit(VectorSchemaRoot root, int rows, Sink sink) throws IOException {
+        root.setRowCount(rows);
+        sink.batch(root);
+        root.allocateNew();
+    }
+
+    private Schema schema(AnswerBatch first) {
+        List<Field> fields = new ArrayList<>(variables.size());
+        for (String variable : variables) {
+            AnswerBatch.Kind kind;
+            if (kinds.containsKey(variable)) kind = kinds.get(variable);
+            else if (first != null && first.variables().contains(variable)) kind = first.column(variable).kind();
+            else kind = AnswerBatch.Kind.NONE;
+            fields.add(Field.nullable(variable, arrowType(kind)));
+        }
+        return new Schema(fields);
+    }
+
+    private static Schema widen(Schema schema, int index) {
+        List<Field> fields = new ArrayList<>(schema.getFields());
+        fields.set(index, Field.nullable(fields.get(index).getName(), ArrowType.Utf8.INSTANCE));
+        return new Schema(fields);
+    }
+
+    private static ArrowType arrowType(AnswerBatch.Kind kind) {
+        switch (kind) {
+            case BOOLEAN:
+                return ArrowType.Bool.INSTANCE;
+            case LONG:
+                return new ArrowType.Int(64, true);
+            case DOUBLE:
+                return new ArrowType.FloatingPoint(FloatingPointPrecision.DOUBLE);
+            case DATETIME:
+                return new ArrowType.Timestamp(TimeUnit.MILLISECOND, null);
+            case THING:
+                return ArrowType.Binary.INSTANCE;
+            default:
+                // Strings, type labels and columns without a single kind are all written as text
+                return ArrowType.Utf8.INSTANCE;
+        }
+    }
+
+    private AnswerBatch.Column[] columns(AnswerBatch batch) {
+        AnswerBatch.Column[] columns = new AnswerBatch.Column[variables.size()];
+        for (int i = 0; i < columns.length; i++) {
+            if (batch.variables().contains(variables.get(i))) columns[i] = batch.column(variables.get(i));
+        }
+        return columns;
+    }
+
+    private static int mismatch(VectorSchemaRoot root, AnswerBatch.Column[] columns, int row) {
+        for (int i = 0; i < columns.length; i++) {
+            if (columns[i] != null && !accepts(root.getVector(i), columns[i].kind(row))) return i;
+        }
+        return -1;
+    }
+
+    private static boolean accepts(FieldVector vector, AnswerBatch.Kind kind) {
+        switch (kind) {
+            case NONE:
+                return true;
+            case BOOLEAN:
+                return vector instanceof BitVector || vector instanceof VarCharVector;
+            case LONG:
+                return vector instanceof BigIntVector || vector instanceof VarCharVector;
+            case DOUBLE:
+                return vector instanceof Float8Vector || vector instanceof VarCharVector;
+            case DATETIME:
+                return vector instanceof TimeStampMilliVector || vector instanceof VarCharVector;
+            case THING:
+                return vector instanceof VarBinaryVector || vector instanceof VarCharVector;
+            default:
+                return vector instanceof VarCharVector;
+        }
+    }
+
+    private static void write(FieldVector vector, AnswerBatch.Column column, int row, int index) {
+        AnswerBatch.Kind kind = column == null ? AnswerBatch.Kind.NONE : column.kind(row);
+        if (kind == AnswerBatch.Kind.NONE) {
+            writeNull(vector, index);
+        } else if (vector instanceof VarCharVector) {
+            ((VarCharVector) vector).setSafe(index, text(column, kind, row).getBytes(UTF_8));
+        } else if (vector instanceof BigIntVector) {
+            ((BigIntVector) vector).setSafe(index, column.longs()[row]);
+        } else if (vector instanceof TimeStampMilliVector) {
+            ((TimeStampMilliVector) vector).setSafe(index, column.longs()[row]);
+        } else if (vector instanceof Float8Vector) {
+            ((Float8Vector) vector).setSafe(index, column.doubles()[row]);
+        } else if (vector instanceof BitVector) {
+            ((BitVector) vector).setSafe(index, column.booleans()[row] ? 1 : 0);
+        } else if (vector instanceof VarBinaryVector) {
+            int start = column.iidOffsets()[row];
+            ((VarBinaryVector) vector).setSafe(index, column.iids(), start, column.iidOffsets()[row + 1] - start);
+        }
+    }
+
+    private static void writeNull(FieldVector vector, int index) {
+        if (vector instanceof VarCharVector) ((VarCharVector) vector).setNull(index);
+        else if (vector instanceof VarBinaryVector) ((VarBinaryVector) vector).setNull(index);
+        else if (vector instanceof BigIntVector) ((BigIntVector) vector).setNull(index);
+        else if (vector instanceof TimeStampMilliVector) ((TimeStampMilliVector) vector).setNull(index);
+        else if (vector instanceof Float8Vector) ((Float8Vector) vector).setNull(index);
+        else if (vector instanceof BitVector) ((BitVector) vector).setNull(index);
+    }
+
+    private static String text(AnswerBatch.Column column, AnswerBatch.Kind kind, int row) {
+        switch (kind) {
+            case BOOLEAN:
+                return Boolean.toString(column.booleans()[row]);
+            case LONG:
+                return Long.toString(column.longs()[row]);
+            case DOUBLE:
+                return Double.toString(column.doubles()[row]);
+            case DATETIME:
+                return LocalDateTime.ofInstant(Instant.ofEpochMilli(column.longs()[row]), ZoneId.of("Z")).toString();
+            case THING:
+                return column.iid(row);
+            default:
+                return column.dictionary().get(column.codes()[row]);
+        }
+    }
+
+    private abstract static class Sink {
+
+        void start(VectorSchemaRoot root) throws IOException {}
+
+        abstract void batch(VectorSchemaRoot root) throws IOException;
+
+        void widen(String variable, FieldVector vector, AnswerBatch.Kind kind) {}
+
+        void end() throws IOException {}
+    }
+}
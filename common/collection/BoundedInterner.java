@@ -0,0 +1,49 @@
+/*
+ * Copyright (C) 2021 Vaticle
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.vaticle.typedb.client.common.collection;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+public class BoundedInterner<KEY, VALUE> {
+
+    private final int capacity;
+    private final ConcurrentMap<KEY, VALUE> values;
+
+    public BoundedInterner(int capacity) {
+        this.capacity = capacity;
+        this.values = new ConcurrentHashMap<>();
+    }
+
+    public VALUE intern(KEY key, Supplier<? extends VALUE> constructor) {
+        VALUE value = values.get(key);
+        if (value != null) return value;
+        // Once full, the interner stops growing and hands out fresh values until it is cleared
+        if (values.size() >= capacity) return constructor.get();
+        return values.computeIfAbsent(key, k -> constructor.get());
+    }
+
+    public void clear() {
+        values.clear();
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright (C) 2021 Vaticle
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.vaticle.typedb.client.common.collection;
+
+public class CachedValue<VALUE> {
+
+    private final VALUE value;
+    private final long version;
+    private final long expiryNanos;
+    private final boolean canExpire;
+
+    private CachedValue(VALUE value, long version, long expiryNanos, boolean canExpire) {
+        this.value = value;
+        this.version = version;
+        this.expiryNanos = expiryNanos;
+        this.canExpire = canExpire;
+    }
+
+    public static <VALUE> CachedValue<VALUE> invalid() {
+        return new CachedValue<>(null, -1, 0, false);
+    }
+
+    public static <VALUE> CachedValue<VALUE> of(VALUE value, long version) {
+        return new CachedValue<>(value, version, 0, false);
+    }
+
+    public static <VALUE> CachedValue<VALUE> of(VALUE value, long version, long ttlNanos) {
+        return new CachedValue<>(value, version, System.nanoTime() + ttlNanos, true);
+    }
+
+    public boolean isValid(long currentVersion) {
+        return value != null && version == currentVersion && (!canExpire || System.nanoTime() - expiryNanos <= 0);
+    }
+
+    public VALUE value() {
+        return value;
+    }
+}
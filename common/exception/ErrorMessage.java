@@ -56,6 +56,14 @@ public abstract class ErrorMessage extends com.vaticle.typedb.common.exception.E
                 new Client(13, "Attempted connecting to all cluster members, but the following errors occurred: \n%s.");
         public static final Client CLUSTER_USER_DOES_NOT_EXIST =
                 new Client(14, "The user '%s' does not exist.");
+        public static final Client BULK_LOADER_CLOSED =
+                new Client(15, "The bulk loader has been closed and no further queries can be added.");
+        public static final Client OPTIONS_FROZEN =
+                new Client(16, "The options have been frozen and can no longer be modified.");
+        public static final Client NEGATIVE_VALUE =
+                new Client(17, "Value cannot be less than 0, was: '%d'.");
+        public static final Client UNSUPPORTED_TRANSACTION =
+                new Client(18, "The transaction '%s' was not opened by a TypeDB client, and cannot stream neighbourhoods.");
 
         private static final String codePrefix = "CLI";
         private static final String messagePrefix = "Client Error";
@@ -84,6 +92,8 @@ public abstract class ErrorMessage extends com.vaticle.typedb.common.exception.E
                 new Concept(8, "The concept identified by '%s' is not explainable.");
         public static final Concept NONEXISTENT_EXPLAINABLE_OWNERSHIP =
                 new Concept(9, "The ownership by owner '%s' of attribute '%s' is not explainable.");
+        public static final Concept MISSING_SNAPSHOT_TYPE =
+                new Concept(10, "The type '%s' does not exist in the schema snapshot.");
 
         private static final String codePrefix = "CON";
         private static final String messagePrefix = "Concept Error";
@@ -102,6 +112,16 @@ public abstract class ErrorMessage extends com.vaticle.typedb.common.exception.E
                 new Query(3, "The answer type '%s' was not recognised.");
         public static final Query MISSING_ANSWER =
                 new Query(4, "The required field 'answer' of type '%s' was not set.");
+        public static final Query PARAMETER_DOES_NOT_EXIST =
+                new Query(5, "The prepared query has no parameter '%s'.");
+        public static final Query PARAMETER_NOT_BOUND =
+                new Query(6, "The prepared query parameter '%s' has not been bound.");
+        public static final Query COLUMN_KIND_MISMATCH =
+                new Query(7, "The variable '%s' is exported as '%s', but an answer contained a '%s'. Declare its kind as STRING to export it as text.");
+        public static final Query PARAMETER_NOT_FINITE =
+                new Query(8, "The prepared query parameter '%s' cannot be bound to the non-finite value '%s'.");
+        public static final Query PARAMETER_CONTROL_CHARACTER =
+                new Query(9, "The prepared query parameter '%s' cannot be bound to a string containing the control character U+%04X.");
 
         private static final String codePrefix = "QRY";
         private static final String messagePrefix = "Query Error";
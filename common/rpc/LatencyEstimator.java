@@ -0,0 +1,77 @@
+/*
+ * Copyright (C) 2021 Vaticle
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.vaticle.typedb.client.common.rpc;
+
+public class LatencyEstimator {
+
+    // Smoothing factors as recommended for TCP retransmission timers in RFC 6298
+    private static final double ALPHA = 0.125;
+    private static final double BETA = 0.25;
+    private static final int VARIANCE_MULTIPLIER = 4;
+
+    private double smoothedMillis;
+    private double varianceMillis;
+    private boolean hasSamples;
+
+    public LatencyEstimator() {
+        smoothedMillis = 0;
+        varianceMillis = 0;
+        hasSamples = false;
+    }
+
+    public synchronized void update(double roundTripMillis) {
+        if (roundTripMillis < 0) return;
+        if (!hasSamples) {
+            smoothedMillis = roundTripMillis;
+            varianceMillis = roundTripMillis / 2;
+            hasSamples = true;
+        } else {
+            varianceMillis = (1 - BETA) * varianceMillis + BETA * Math.abs(smoothedMillis - roundTripMillis);
+            smoothedMillis = (1 - ALPHA) * smoothedMillis + ALPHA * roundTripMillis;
+        }
+    }
+
+    public void updateNanos(long roundTripNanos) {
+        update(roundTripNanos / 1_000_000.0);
+    }
+
+    public synchronized boolean hasSamples() {
+        return hasSamples;
+    }
+
+    public synchronized int smoothedMillis() {
+        return (int) Math.round(smoothedMillis);
+    }
+
+    public synchronized int varianceMillis() {
+        return (int) Math.round(varianceMillis);
+    }
+
+    public synchronized int upperBoundMillis() {
+        return (int) Math.round(smoothedMillis + VARIANCE_MULTIPLIER * varianceMillis);
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "rtt: " + smoothedMillis + "ms, variance: " + varianceMillis + "ms";
+    }
+}
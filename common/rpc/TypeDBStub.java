@@ -28,10 +28,12 @@ import com.vaticle.typedb.protocol.SessionProto.Session;
 import com.vaticle.typedb.protocol.TransactionProto;
 import com.vaticle.typedb.protocol.TypeDBGrpc;
 import io.grpc.ConnectivityState;
+import io.grpc.Deadline;
 import io.grpc.ManagedChannel;
 import io.grpc.StatusRuntimeException;
 import io.grpc.stub.StreamObserver;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Supplier;
 
 public abstract class TypeDBStub {
@@ -74,6 +76,14 @@ public abstract class TypeDBStub {
         return resilientCall(() -> blockingStub.sessionClose(request));
     }
 
+    public CompletableFuture<Session.Close.Res> sessionCloseAsync(Session.Close.Req request, Deadline deadline) {
+        return resilientCall(() -> {
+            UnaryObserver<Session.Close.Res> observer = new UnaryObserver<>();
+            asyncStub.withDeadline(deadline).sessionClose(request, observer);
+            return observer.future;
+        });
+    }
+
     public Session.Pulse.Res sessionPulse(Session.Pulse.Req request) {
         return resilientCall(() -> blockingStub.sessionPulse(request));
     }
@@ -102,4 +112,28 @@ public abstract class TypeDBStub {
         }
     }
 
+    private static class UnaryObserver<RES> implements StreamObserver<RES> {
+
+        private final CompletableFuture<RES> future;
+
+        private UnaryObserver() {
+            future = new CompletableFuture<>();
+        }
+
+        @Override
+        public void onNext(RES res) {
+            future.complete(res);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            if (t instanceof StatusRuntimeException) future.completeExceptionally(TypeDBClientException.of((StatusRuntimeException) t));
+            else future.completeExceptionally(t);
+        }
+
+        @Override
+        public void onCompleted() {
+            future.complete(null);
+        }
+    }
 }
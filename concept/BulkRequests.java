@@ -0,0 +1,70 @@
+/*
+ * Copyright (C) 2021 Vaticle
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.vaticle.typedb.client.concept;
+
+import com.google.protobuf.CodedOutputStream;
+import com.vaticle.typedb.client.api.connection.TypeDBTransaction;
+import com.vaticle.typedb.client.api.query.QueryFuture;
+import com.vaticle.typedb.protocol.TransactionProto;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+public class BulkRequests {
+
+    public static final int BATCH_SIZE = 1_000;
+
+    public static List<TransactionProto.Transaction.Res> executeAll(TypeDBTransaction.Extended transactionExt,
+                                                                    List<TransactionProto.Transaction.Req.Builder> requests) {
+        // Each batch is sent as one message, and every batch is sent before the first response is awaited
+        List<QueryFuture<TransactionProto.Transaction.Res>> futures = new ArrayList<>(requests.size());
+        for (List<TransactionProto.Transaction.Req.Builder> batch : batches(requests)) {
+            futures.addAll(transactionExt.queryAll(batch));
+        }
+        List<TransactionProto.Transaction.Res> responses = new ArrayList<>(futures.size());
+        for (QueryFuture<TransactionProto.Transaction.Res> future : futures) responses.add(future.get());
+        return responses;
+    }
+
+    public static List<Stream<TransactionProto.Transaction.ResPart>> streamAll(TypeDBTransaction.Extended transactionExt,
+                                                                               List<TransactionProto.Transaction.Req.Builder> requests) {
+        List<Stream<TransactionProto.Transaction.ResPart>> streams = new ArrayList<>(requests.size());
+        for (List<TransactionProto.Transaction.Req.Builder> batch : batches(requests)) {
+            streams.addAll(transactionExt.streamAll(batch));
+        }
+        return streams;
+    }
+
+    public static long encodedSize(String query) {
+        // Queries are encoded as UTF-8, where one character may take up to three bytes
+        return CodedOutputStream.computeStringSizeNoTag(query);
+    }
+
+    private static <T> List<List<T>> batches(List<T> items) {
+        List<List<T>> batches = new ArrayList<>();
+        for (int start = 0; start < items.size(); start += BATCH_SIZE) {
+            batches.add(items.subList(start, Math.min(start + BATCH_SIZE, items.size())));
+        }
+        return batches;
+    }
+}
@@ -23,11 +23,14 @@ package com.vaticle.typedb.client.concept;
 
 import com.vaticle.typedb.client.api.connection.TypeDBTransaction;
 import com.vaticle.typedb.client.api.concept.ConceptManager;
+import com.vaticle.typedb.client.api.concept.thing.Attribute;
 import com.vaticle.typedb.client.api.concept.thing.Thing;
 import com.vaticle.typedb.client.api.concept.type.AttributeType;
 import com.vaticle.typedb.client.api.concept.type.EntityType;
 import com.vaticle.typedb.client.api.concept.type.RelationType;
 import com.vaticle.typedb.client.api.concept.type.ThingType;
+import com.vaticle.typedb.client.api.query.QueryFuture;
+import com.vaticle.typedb.client.concept.thing.AttributeImpl;
 import com.vaticle.typedb.client.concept.thing.ThingImpl;
 import com.vaticle.typedb.client.concept.type.AttributeTypeImpl;
 import com.vaticle.typedb.client.concept.type.EntityTypeImpl;
@@ -38,19 +41,87 @@ import com.vaticle.typedb.protocol.TransactionProto;
 import com.vaticle.typeql.lang.common.TypeQLToken;
 
 import javax.annotation.Nullable;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static com.vaticle.typedb.client.common.rpc.RequestBuilder.ConceptManager.getThingReq;
 import static com.vaticle.typedb.client.common.rpc.RequestBuilder.ConceptManager.getThingTypeReq;
 import static com.vaticle.typedb.client.common.rpc.RequestBuilder.ConceptManager.putAttributeTypeReq;
 import static com.vaticle.typedb.client.common.rpc.RequestBuilder.ConceptManager.putEntityTypeReq;
 import static com.vaticle.typedb.client.common.rpc.RequestBuilder.ConceptManager.putRelationTypeReq;
+import static com.vaticle.typedb.client.common.rpc.RequestBuilder.Thing.getHasReq;
+import static com.vaticle.typedb.client.concept.type.TypeImpl.protoTypes;
+import static java.util.Arrays.asList;
+import static java.util.Spliterator.IMMUTABLE;
+import static java.util.Spliterator.ORDERED;
+import static java.util.Spliterators.spliteratorUnknownSize;
+import static java.util.stream.Collectors.toList;
 
 public final class ConceptManagerImpl implements ConceptManager {
 
     private final TypeDBTransaction.Extended transactionExt;
+    private final ConcurrentMap<String, Optional<ThingTypeImpl>> thingTypes;
+    private final AtomicLong thingTypesGeneration;
 
     public ConceptManagerImpl(TypeDBTransaction.Extended transactionExt) {
         this.transactionExt = transactionExt;
+        this.thingTypes = new ConcurrentHashMap<>();
+        this.thingTypesGeneration = new AtomicLong();
+    }
+
+    public static boolean changesTypeLabels(TransactionProto.Transaction.Req.Builder request) {
+        switch (request.getReqCase()) {
+            case CONCEPT_MANAGER_REQ:
+                switch (request.getConceptManagerReq().getReqCase()) {
+                    case PUT_ENTITY_TYPE_REQ:
+                    case PUT_RELATION_TYPE_REQ:
+                    case PUT_ATTRIBUTE_TYPE_REQ:
+                        return true;
+                    default:
+                        return false;
+                }
+            case TYPE_REQ:
+                switch (request.getTypeReq().getReqCase()) {
+                    case TYPE_DELETE_REQ:
+                    case TYPE_SET_LABEL_REQ:
+                        return true;
+                    default:
+                        return false;
+                }
+            case QUERY_MANAGER_REQ:
+                switch (request.getQueryManagerReq().getReqCase()) {
+                    case DEFINE_REQ:
+                    case UNDEFINE_REQ:
+                        return true;
+                    default:
+                        return false;
+                }
+            case ROLLBACK_REQ:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public void invalidateTypes() {
+        thingTypesGeneration.incrementAndGet();
+        thingTypes.clear();
     }
 
     @Override
@@ -116,6 +187,20 @@ public final class ConceptManagerImpl implements ConceptManager {
     @Override
     @Nullable
     public ThingType getThingType(String label) {
+        // Absent types are cached too, since callers commonly probe for a type before putting it
+        Optional<ThingTypeImpl> thingType = thingTypes.get(label);
+        if (thingType == null) {
+            long generation = thingTypesGeneration.get();
+            thingType = Optional.ofNullable(fetchThingType(label));
+            thingTypes.put(label, thingType);
+            // An invalidation that raced with the fetch may have missed this entry, so it is withdrawn again
+            if (thingTypesGeneration.get() != generation) thingTypes.remove(label, thingType);
+        }
+        return thingType.orElse(null);
+    }
+
+    @Nullable
+    private ThingTypeImpl fetchThingType(String label) {
         ConceptProto.ConceptManager.GetThingType.Res res = execute(getThingTypeReq(label)).getGetThingTypeRes();
         switch (res.getResCase()) {
             case THING_TYPE:
@@ -129,7 +214,47 @@ public final class ConceptManagerImpl implements ConceptManager {
     @Override
     @Nullable
     public Thing getThing(String iid) {
-        ConceptProto.ConceptManager.GetThing.Res res = execute(getThingReq(iid)).getGetThingRes();
+        return thing(execute(getThingReq(iid)));
+    }
+
+    @Override
+    public List<ThingImpl> getThings(Collection<String> iids) {
+        // Every batch is dispatched up front, so the whole list costs about one round trip
+        ThingFutureIterator futures = new ThingFutureIterator(iids.iterator());
+        futures.dispatchAll();
+        List<ThingImpl> things = new ArrayList<>(iids.size());
+        futures.forEachRemaining(future -> things.add(thing(future.get().getConceptManagerRes())));
+        return things;
+    }
+
+    @Override
+    public Stream<ThingImpl> streamThings(Collection<String> iids) {
+        return StreamSupport.stream(spliteratorUnknownSize(new ThingFutureIterator(iids.iterator()), ORDERED | IMMUTABLE), false)
+                .map(future -> thing(future.get().getConceptManagerRes())).filter(Objects::nonNull);
+    }
+
+    @Override
+    public Map<Thing, List<Attribute<?>>> getHas(Collection<? extends Thing> things, AttributeType... attributeTypes) {
+        // Every stream is opened before the first is read, and the response collector keeps each one's parts apart
+        Set<Thing> distinct = new LinkedHashSet<>(things);
+        List<ConceptProto.Type> protoAttributeTypes = protoTypes(asList(attributeTypes));
+        List<TransactionProto.Transaction.Req.Builder> requests = new ArrayList<>(distinct.size());
+        for (Thing thing : distinct) requests.add(getHasReq(thing.getIID(), protoAttributeTypes));
+        List<Stream<TransactionProto.Transaction.ResPart>> streams = BulkRequests.streamAll(transactionExt, requests);
+
+        Map<Thing, List<Attribute<?>>> attributes = new LinkedHashMap<>();
+        Iterator<Stream<TransactionProto.Transaction.ResPart>> responses = streams.iterator();
+        for (Thing thing : distinct) {
+            attributes.put(thing, responses.next()
+                    .flatMap(rp -> rp.getThingResPart().getThingGetHasResPart().getAttributesList().stream())
+                    .map(AttributeImpl::of).collect(toList()));
+        }
+        return attributes;
+    }
+
+    @Nullable
+    private static ThingImpl thing(ConceptProto.ConceptManager.Res conceptManagerRes) {
+        ConceptProto.ConceptManager.GetThing.Res res = conceptManagerRes.getGetThingRes();
         switch (res.getResCase()) {
             case THING:
                 return ThingImpl.of(res.getThing());
@@ -142,4 +267,38 @@ public final class ConceptManagerImpl implements ConceptManager {
     private ConceptProto.ConceptManager.Res execute(TransactionProto.Transaction.Req.Builder req) {
         return transactionExt.execute(req).getConceptManagerRes();
     }
+
+    private class ThingFutureIterator implements Iterator<QueryFuture<TransactionProto.Transaction.Res>> {
+
+        private final Iterator<String> iids;
+        private final Queue<QueryFuture<TransactionProto.Transaction.Res>> dispatched;
+
+        private ThingFutureIterator(Iterator<String> iids) {
+            this.iids = iids;
+            this.dispatched = new ArrayDeque<>();
+        }
+
+        private void dispatchAll() {
+            while (iids.hasNext()) dispatchBatch();
+        }
+
+        private void dispatchBatch() {
+            List<TransactionProto.Transaction.Req.Builder> requests = new ArrayList<>(BulkRequests.BATCH_SIZE);
+            while (iids.hasNext() && requests.size() < BulkRequests.BATCH_SIZE) requests.add(getThingReq(iids.next()));
+            if (!requests.isEmpty()) dispatched.addAll(transactionExt.queryAll(requests));
+        }
+
+        @Override
+        public boolean hasNext() {
+            // Keep the next batch in flight while the current one is being consumed
+            if (dispatched.size() <= BulkRequests.BATCH_SIZE) dispatchBatch();
+            return !dispatched.isEmpty();
+        }
+
+        @Override
+        public QueryFuture<TransactionProto.Transaction.Res> next() {
+            if (!hasNext()) throw new NoSuchElementException();
+            return dispatched.poll();
+        }
+    }
 }
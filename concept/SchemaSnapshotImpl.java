@@ -0,0 +1,275 @@
+/*
+ * Copyright (C) 2021 Vaticle
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.vaticle.typedb.client.concept;
+
+import com.vaticle.typedb.client.api.concept.SchemaSnapshot;
+import com.vaticle.typedb.client.api.concept.type.AttributeType.ValueType;
+import com.vaticle.typedb.client.api.concept.type.RelationType;
+import com.vaticle.typedb.client.api.concept.type.ThingType;
+import com.vaticle.typedb.client.api.concept.type.Type;
+import com.vaticle.typedb.client.api.connection.TypeDBTransaction;
+import com.vaticle.typedb.client.api.logic.Rule;
+import com.vaticle.typedb.client.api.query.QueryFuture;
+import com.vaticle.typedb.client.common.Label;
+import com.vaticle.typedb.client.common.exception.TypeDBClientException;
+import com.vaticle.typedb.client.concept.type.AttributeTypeImpl;
+import com.vaticle.typedb.client.concept.type.RoleTypeImpl;
+import com.vaticle.typedb.client.concept.type.ThingTypeImpl;
+import com.vaticle.typedb.client.concept.type.TypeImpl;
+import com.vaticle.typedb.protocol.ConceptProto;
+import com.vaticle.typedb.protocol.TransactionProto;
+import com.vaticle.typeql.lang.common.TypeQLToken;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static com.vaticle.typedb.client.common.exception.ErrorMessage.Concept.MISSING_SNAPSHOT_TYPE;
+import static com.vaticle.typedb.client.common.rpc.RequestBuilder.Type.RelationType.getRelatesReq;
+import static com.vaticle.typedb.client.common.rpc.RequestBuilder.Type.ThingType.getOwnsReq;
+import static com.vaticle.typedb.client.common.rpc.RequestBuilder.Type.ThingType.getPlaysReq;
+import static com.vaticle.typedb.client.common.rpc.RequestBuilder.Type.getSubtypesReq;
+import static com.vaticle.typedb.client.common.rpc.RequestBuilder.Type.getSupertypeReq;
+import static com.vaticle.typedb.client.common.rpc.RequestBuilder.Type.isAbstractReq;
+import static java.util.Collections.unmodifiableList;
+import static java.util.Collections.unmodifiableMap;
+import static java.util.stream.Collectors.toList;
+
+public final class SchemaSnapshotImpl implements SchemaSnapshot {
+
+    private final Map<Label, Node> nodes;
+    private final Map<String, Rule> rules;
+
+    private SchemaSnapshotImpl(Map<Label, Node> nodes, Map<String, Rule> rules) {
+        Map<Label, List<Node>> children = new HashMap<>();
+        for (Node node : nodes.values()) {
+            if (node.supertype != null) children.computeIfAbsent(node.supertype.getLabel(), l -> new ArrayList<>()).add(node);
+        }
+        for (Node node : nodes.values()) {
+            List<TypeImpl> supertypes = new ArrayList<>();
+            for (Node n = node; n != null; n = n.supertype == null ? null : nodes.get(n.supertype.getLabel())) {
+                supertypes.add(n.type);
+            }
+            List<TypeImpl> subtypes = new ArrayList<>();
+            collectSubtypes(node, children, subtypes);
+            node.supertypes = unmodifiableList(supertypes);
+            node.subtypes = unmodifiableList(subtypes);
+        }
+        this.nodes = unmodifiableMap(nodes);
+        this.rules = unmodifiableMap(rules);
+    }
+
+    private static void collectSubtypes(Node node, Map<Label, List<Node>> children, List<TypeImpl> subtypes) {
+        subtypes.add(node.type);
+        for (Node child : children.getOrDefault(node.type.getLabel(), Collections.emptyList())) {
+            collectSubtypes(child, children, subtypes);
+        }
+    }
+
+    public static SchemaSnapshotImpl load(TypeDBTransaction.Extended transaction) {
+        // Each batch of requests below is sent before any of its responses are awaited
+        List<ThingTypeImpl> thingTypes = transaction.stream(getSubtypesReq(Label.of(TypeQLToken.Type.THING.toString())))
+                .flatMap(rp -> rp.getTypeResPart().getTypeGetSubtypesResPart().getTypesList().stream())
+                .map(ThingTypeImpl::of).collect(toList());
+
+        List<TransactionProto.Transaction.Req.Builder> requests = new ArrayList<>(thingTypes.size() * 4);
+        for (ThingTypeImpl type : thingTypes) {
+            requests.add(getOwnsReq(type.getLabel(), false));
+            requests.add(getOwnsReq(type.getLabel(), true));
+            requests.add(getPlaysReq(type.getLabel()));
+            if (type.isRelationType()) requests.add(getRelatesReq(type.getLabel()));
+        }
+        Iterator<Stream<ConceptProto.Type.ResPart>> responses = transaction.streamAll(requests).stream()
+                .map(stream -> stream.map(TransactionProto.Transaction.ResPart::getTypeResPart)).iterator();
+
+        Map<Label, Node> nodes = new LinkedHashMap<>();
+        loadHierarchy(transaction, thingTypes, nodes);
+        Map<Label, RoleTypeImpl> roleTypes = new LinkedHashMap<>();
+        for (ThingTypeImpl type : thingTypes) {
+            Node node = nodes.get(type.getLabel());
+            node.owns = unmodifiableList(responses.next()
+                    .flatMap(rp -> rp.getThingTypeGetOwnsResPart().getAttributeTypesList().stream())
+                    .map(AttributeTypeImpl::of).collect(toList()));
+            node.keys = unmodifiableList(responses.next()
+                    .flatMap(rp -> rp.getThingTypeGetOwnsResPart().getAttributeTypesList().stream())
+                    .map(AttributeTypeImpl::of).collect(toList()));
+            node.plays = unmodifiableList(responses.next()
+                    .flatMap(rp -> rp.getThingTypeGetPlaysResPart().getRolesList().stream())
+                    .map(RoleTypeImpl::of).collect(toList()));
+            if (type.isRelationType()) {
+                node.relates = unmodifiableList(responses.next()
+                        .flatMap(rp -> rp.getRelationTypeGetRelatesResPart().getRolesList().stream())
+                        .map(RoleTypeImpl::of).collect(toList()));
+                node.relates.forEach(roleType -> roleTypes.putIfAbsent(roleType.getLabel(), roleType));
+            }
+        }
+        loadHierarchy(transaction, new ArrayList<>(roleTypes.values()), nodes);
+
+        Map<String, Rule> rules = new LinkedHashMap<>();
+        transaction.logic().getRules().forEach(rule -> rules.put(rule.getLabel(), rule));
+        return new SchemaSnapshotImpl(nodes, rules);
+    }
+
+    private static void loadHierarchy(TypeDBTransaction.Extended transaction, List<? extends TypeImpl> types,
+                                      Map<Label, Node> nodes) {
+        List<? extends TypeImpl> pending = types;
+        while (!pending.isEmpty()) {
+            List<TransactionProto.Transaction.Req.Builder> requests = new ArrayList<>(pending.size() * 2);
+            for (TypeImpl type : pending) {
+                requests.add(getSupertypeReq(type.getLabel()));
+                requests.add(isAbstractReq(type.getLabel()));
+            }
+            List<QueryFuture<TransactionProto.Transaction.Res>> responses = transaction.queryAll(requests);
+            List<TypeImpl> discovered = new ArrayList<>();
+            for (int i = 0; i < pending.size(); i++) {
+                ConceptProto.Type.GetSupertype.Res supertypeRes = responses.get(2 * i).get().getTypeRes().getTypeGetSupertypeRes();
+                TypeImpl supertype = supertypeRes.hasType() ? TypeImpl.of(supertypeRes.getType()) : null;
+                boolean isAbstract = responses.get(2 * i + 1).get().getTypeRes().getTypeIsAbstractRes().getAbstract();
+                nodes.put(pending.get(i).getLabel(), new Node(pending.get(i), supertype, isAbstract));
+                if (supertype != null && !nodes.containsKey(supertype.getLabel())
+                        && !pending.contains(supertype) && !discovered.contains(supertype)) {
+                    discovered.add(supertype);
+                }
+            }
+            pending = discovered;
+        }
+    }
+
+    private Node node(Type type) {
+        Node node = nodes.get(type.getLabel());
+        if (node == null) throw new TypeDBClientException(MISSING_SNAPSHOT_TYPE, type.getLabel());
+        return node;
+    }
+
+    @Override
+    public Stream<TypeImpl> getTypes() {
+        return nodes.values().stream().map(node -> node.type);
+    }
+
+    @Override
+    @Nullable
+    public TypeImpl getType(Label label) {
+        Node node = nodes.get(label);
+        return node != null ? node.type : null;
+    }
+
+    @Override
+    @Nullable
+    public ThingTypeImpl getThingType(String label) {
+        TypeImpl type = getType(Label.of(label));
+        return type != null && type.isThingType() ? type.asThingType() : null;
+    }
+
+    @Override
+    public boolean isAbstract(Type type) {
+        return node(type).isAbstract;
+    }
+
+    @Override
+    @Nullable
+    public TypeImpl getSupertype(Type type) {
+        return node(type).supertype;
+    }
+
+    @Override
+    public Stream<TypeImpl> getSupertypes(Type type) {
+        return node(type).supertypes.stream();
+    }
+
+    @Override
+    public Stream<TypeImpl> getSubtypes(Type type) {
+        return node(type).subtypes.stream();
+    }
+
+    @Override
+    public Stream<AttributeTypeImpl> getOwns(ThingType type) {
+        return getOwns(type, false);
+    }
+
+    @Override
+    public Stream<AttributeTypeImpl> getOwns(ThingType type, ValueType valueType) {
+        return getOwns(type, valueType, false);
+    }
+
+    @Override
+    public Stream<AttributeTypeImpl> getOwns(ThingType type, boolean keysOnly) {
+        Node node = node(type);
+        return keysOnly ? node.keys.stream() : node.owns.stream();
+    }
+
+    @Override
+    public Stream<AttributeTypeImpl> getOwns(ThingType type, ValueType valueType, boolean keysOnly) {
+        return getOwns(type, keysOnly).filter(attributeType -> attributeType.getValueType() == valueType);
+    }
+
+    @Override
+    public Stream<RoleTypeImpl> getPlays(ThingType type) {
+        return node(type).plays.stream();
+    }
+
+    @Override
+    public Stream<RoleTypeImpl> getRelates(RelationType type) {
+        return node(type).relates.stream();
+    }
+
+    @Override
+    @Nullable
+    public RoleTypeImpl getRelates(RelationType type, String roleLabel) {
+        return getRelates(type).filter(roleType -> roleType.getLabel().name().equals(roleLabel)).findFirst().orElse(null);
+    }
+
+    @Override
+    public Stream<Rule> getRules() {
+        return rules.values().stream();
+    }
+
+    @Override
+    @Nullable
+    public Rule getRule(String label) {
+        return rules.get(label);
+    }
+
+    private static class Node {
+
+        private final TypeImpl type;
+        private final TypeImpl supertype;
+        private final boolean isAbstract;
+        private List<TypeImpl> supertypes;
+        private List<TypeImpl> subtypes;
+        private List<AttributeTypeImpl> owns = Collections.emptyList();
+        private List<AttributeTypeImpl> keys = Collections.emptyList();
+        private List<RoleTypeImpl> plays = Collections.emptyList();
+        private List<RoleTypeImpl> relates = Collections.emptyList();
+
+        private Node(TypeImpl type, @Nullable TypeImpl supertype, boolean isAbstract) {
+            this.type = type;
+            this.supertype = supertype;
+            this.isAbstract = isAbstract;
+        }
+    }
+}
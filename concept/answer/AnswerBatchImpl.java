@@ -0,0 +1,266 @@
+/*
+ * Copyright (C) 2021 Vaticle
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.vaticle.typedb.client.concept.answer;
+
+import com.vaticle.typedb.client.api.answer.AnswerBatch;
+import com.vaticle.typedb.client.common.exception.TypeDBClientException;
+import com.vaticle.typedb.protocol.AnswerProto;
+import com.vaticle.typedb.protocol.ConceptProto;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.vaticle.typedb.client.common.exception.ErrorMessage.Concept.BAD_VALUE_TYPE;
+import static com.vaticle.typedb.client.common.exception.ErrorMessage.Query.VARIABLE_DOES_NOT_EXIST;
+import static com.vaticle.typedb.common.collection.Bytes.bytesToHexString;
+
+public class AnswerBatchImpl implements AnswerBatch {
+
+    private static final Kind[] KINDS = Kind.values();
+
+    private final int size;
+    private final List<String> variables;
+    private final Map<String, ColumnImpl> columns;
+
+    private AnswerBatchImpl(int size, Map<String, ColumnImpl> columns) {
+        this.size = size;
+        this.variables = Collections.unmodifiableList(new ArrayList<>(columns.keySet()));
+        this.columns = columns;
+    }
+
+    public static AnswerBatch of(List<AnswerProto.ConceptMap> answers) {
+        int size = answers.size();
+        Map<String, ColumnImpl> columns = new LinkedHashMap<>();
+        for (int row = 0; row < size; row++) {
+            for (Map.Entry<String, ConceptProto.Concept> entry : answers.get(row).getMapMap().entrySet()) {
+                columns.computeIfAbsent(entry.getKey(), variable -> new ColumnImpl(variable, size)).set(row, entry.getValue());
+            }
+        }
+        columns.values().forEach(ColumnImpl::seal);
+        return new AnswerBatchImpl(size, columns);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public List<String> variables() {
+        return variables;
+    }
+
+    @Override
+    public Column column(String variable) {
+        Column column = columns.get(variable);
+        if (column == null) throw new TypeDBClientException(VARIABLE_DOES_NOT_EXIST, variable);
+        return column;
+    }
+
+    private static class ColumnImpl implements Column {
+
+        private final String variable;
+        private final int size;
+        private final byte[] kinds;
+        private Kind kind;
+        private long[] longs;
+        private double[] doubles;
+        private boolean[] booleans;
+        private int[] codes;
+        private List<String> dictionary;
+        private Map<String, Integer> dictionaryCodes;
+        private byte[] iids;
+        private int[] iidOffsets;
+        private int iidLength;
+        private int iidRows;
+
+        private ColumnImpl(String variable, int size) {
+            this.variable = variable;
+            this.size = size;
+            this.kinds = new byte[size];
+            this.kind = Kind.NONE;
+        }
+
+        private void set(int row, ConceptProto.Concept concept) {
+            if (concept.hasThing()) {
+                ConceptProto.Thing thing = concept.getThing();
+                appendIID(row, thing);
+                if (thing.getType().getEncoding() == ConceptProto.Type.Encoding.ATTRIBUTE_TYPE) setValue(row, thing);
+                else mark(row, Kind.THING);
+            } else {
+                ConceptProto.Type type = concept.getType();
+                String label = type.getEncoding() == ConceptProto.Type.Encoding.ROLE_TYPE
+                        ? type.getScope() + ":" + type.getLabel() : type.getLabel();
+                codeArray()[row] = encode(label);
+                mark(row, Kind.TYPE);
+            }
+        }
+
+        private void setValue(int row, ConceptProto.Thing attribute) {
+            ConceptProto.Attribute.Value value = attribute.getValue();
+            switch (attribute.getType().getValueType()) {
+                case BOOLEAN:
+                    booleanArray()[row] = value.getBoolean();
+                    mark(row, Kind.BOOLEAN);
+                    break;
+                case LONG:
+                    longArray()[row] = value.getLong();
+                    mark(row, Kind.LONG);
+                    break;
+                case DOUBLE:
+                    doubleArray()[row] = value.getDouble();
+                    mark(row, Kind.DOUBLE);
+                    break;
+                case STRING:
+                    codeArray()[row] = encode(value.getString());
+                    mark(row, Kind.STRING);
+                    break;
+                case DATETIME:
+                    longArray()[row] = value.getDateTime();
+                    mark(row, Kind.DATETIME);
+                    break;
+                case UNRECOGNIZED:
+                default:
+                    throw new TypeDBClientException(BAD_VALUE_TYPE, attribute.getType().getValueType());
+            }
+        }
+
+        private void mark(int row, Kind rowKind) {
+            kinds[row] = (byte) rowKind.ordinal();
+            if (kind == Kind.NONE) kind = rowKind;
+            else if (kind != rowKind) kind = Kind.MIXED;
+        }
+
+        private int encode(String text) {
+            if (dictionary == null) {
+                dictionary = new ArrayList<>();
+                dictionaryCodes = new HashMap<>();
+            }
+            return dictionaryCodes.computeIfAbsent(text, t -> {
+                dictionary.add(t);
+                return dictionary.size() - 1;
+            });
+        }
+
+        private void appendIID(int row, ConceptProto.Thing thing) {
+            int length = thing.getIid().size();
+            if (iids == null) {
+                iids = new byte[length * size];
+                iidOffsets = new int[size + 1];
+            } else if (iidLength + length > iids.length) {
+                iids = Arrays.copyOf(iids, Math.max(iids.length * 2, iidLength + length));
+            }
+            // Rows between the previous thing and this one have no IID, so they get empty ranges
+            while (iidRows < row) iidOffsets[++iidRows] = iidLength;
+            thing.getIid().copyTo(iids, iidLength);
+            iidLength += length;
+            iidOffsets[++iidRows] = iidLength;
+        }
+
+        private void seal() {
+            if (iids == null) return;
+            while (iidRows < size) iidOffsets[++iidRows] = iidLength;
+            if (iids.length > iidLength) iids = Arrays.copyOf(iids, iidLength);
+        }
+
+        private long[] longArray() {
+            if (longs == null) longs = new long[size];
+            return longs;
+        }
+
+        private double[] doubleArray() {
+            if (doubles == null) doubles = new double[size];
+            return doubles;
+        }
+
+        private boolean[] booleanArray() {
+            if (booleans == null) booleans = new boolean[size];
+            return booleans;
+        }
+
+        private int[] codeArray() {
+            if (codes == null) codes = new int[size];
+            return codes;
+        }
+
+        @Override
+        public String variable() {
+            return variable;
+        }
+
+        @Override
+        public Kind kind() {
+            return kind;
+        }
+
+        @Override
+        public Kind kind(int row) {
+            return KINDS[kinds[row]];
+        }
+
+        @Override
+        public long[] longs() {
+            return longs;
+        }
+
+        @Override
+        public double[] doubles() {
+            return doubles;
+        }
+
+        @Override
+        public boolean[] booleans() {
+            return booleans;
+        }
+
+        @Override
+        public int[] codes() {
+            return codes;
+        }
+
+        @Override
+        public List<String> dictionary() {
+            return dictionary == null ? Collections.emptyList() : Collections.unmodifiableList(dictionary);
+        }
+
+        @Override
+        public byte[] iids() {
+            return iids;
+        }
+
+        @Override
+        public int[] iidOffsets() {
+            return iidOffsets;
+        }
+
+        @Override
+        public String iid(int row) {
+            if (iids == null || iidOffsets[row] == iidOffsets[row + 1]) return null;
+            return bytesToHexString(Arrays.copyOfRange(iids, iidOffsets[row], iidOffsets[row + 1]));
+        }
+    }
+}
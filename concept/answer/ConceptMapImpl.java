@@ -27,6 +27,7 @@ import com.vaticle.typedb.client.common.exception.TypeDBClientException;
 import com.vaticle.typedb.client.concept.ConceptImpl;
 import com.vaticle.typedb.common.collection.Pair;
 import com.vaticle.typedb.protocol.AnswerProto;
+import com.vaticle.typedb.protocol.ConceptProto;
 
 import java.util.Collection;
 import java.util.Collections;
@@ -41,25 +42,38 @@ import static com.vaticle.typedb.client.common.exception.ErrorMessage.Query.VARI
 
 public class ConceptMapImpl implements ConceptMap {
 
-    private final Map<String, Concept> map;
-    private final Explainables explainables;
+    private final AnswerProto.ConceptMap proto;
+    private Map<String, Concept> map;
+    private Map<String, Concept> decoded;
+    private Explainables explainables;
 
     public ConceptMapImpl(Map<String, Concept> map) {
-        this(map, new ExplainablesImpl());
+        this(map, ExplainablesImpl.EMPTY);
     }
 
     public ConceptMapImpl(Map<String, Concept> map, Explainables explainables) {
+        this.proto = null;
         this.map = Collections.unmodifiableMap(map);
         this.explainables = explainables;
     }
 
+    private ConceptMapImpl(AnswerProto.ConceptMap proto) {
+        // Concepts and explainables are decoded from the proto when they are first read
+        this.proto = proto;
+        this.map = null;
+        this.decoded = null;
+        this.explainables = null;
+    }
+
     public static ConceptMap of(AnswerProto.ConceptMap res) {
-        Map<String, Concept> variableMap = new HashMap<>();
-        res.getMapMap().forEach((resVar, resConcept) -> variableMap.put(resVar, ConceptImpl.of(resConcept)));
-        return new ConceptMapImpl(Collections.unmodifiableMap(variableMap), of(res.getExplainables()));
+        return new ConceptMapImpl(res);
     }
 
     private static Explainables of(AnswerProto.Explainables explainables) {
+        if (explainables.getRelationsCount() == 0 && explainables.getAttributesCount() == 0
+                && explainables.getOwnershipsCount() == 0) {
+            return ExplainablesImpl.EMPTY;
+        }
         Map<String, Explainable> relations = new HashMap<>();
         explainables.getRelationsMap().forEach((var, explainable) -> {
             relations.put(var, ExplainableImpl.of(explainable));
@@ -78,30 +92,46 @@ public class ConceptMapImpl implements ConceptMap {
     }
 
     @Override
-    public Map<String, Concept> map() {
+    public synchronized Map<String, Concept> map() {
+        if (map == null) {
+            Map<String, Concept> variableMap = new HashMap<>();
+            proto.getMapMap().forEach((resVar, resConcept) -> {
+                Concept concept = decoded != null ? decoded.get(resVar) : null;
+                variableMap.put(resVar, concept != null ? concept : ConceptImpl.of(resConcept));
+            });
+            map = Collections.unmodifiableMap(variableMap);
+            decoded = null;
+        }
         return map;
     }
 
     @Override
     public Collection<Concept> concepts() {
-        return map.values();
+        return map().values();
     }
 
     @Override
-    public Concept get(String variable) {
-        Concept concept = map.get(variable);
-        if (concept == null) throw new TypeDBClientException(VARIABLE_DOES_NOT_EXIST, variable);
-        return concept;
+    public synchronized Concept get(String variable) {
+        if (map != null) {
+            Concept concept = map.get(variable);
+            if (concept == null) throw new TypeDBClientException(VARIABLE_DOES_NOT_EXIST, variable);
+            return concept;
+        }
+        ConceptProto.Concept resConcept = proto.getMapOrDefault(variable, null);
+        if (resConcept == null) throw new TypeDBClientException(VARIABLE_DOES_NOT_EXIST, variable);
+        if (decoded == null) decoded = new HashMap<>();
+        return decoded.computeIfAbsent(variable, var -> ConceptImpl.of(resConcept));
     }
 
     @Override
-    public Explainables explainables() {
+    public synchronized Explainables explainables() {
+        if (explainables == null) explainables = of(proto.getExplainables());
         return explainables;
     }
 
     @Override
     public String toString() {
-        return map.entrySet().stream()
+        return map().entrySet().stream()
                 .sorted(Map.Entry.comparingByKey())
                 .map(e -> "[" + e.getKey() + "/" + e.getValue() + "]").collect(Collectors.joining());
     }
@@ -111,24 +141,23 @@ public class ConceptMapImpl implements ConceptMap {
         if (obj == this) return true;
         if (obj == null || getClass() != obj.getClass()) return false;
         ConceptMapImpl a2 = (ConceptMapImpl) obj;
-        return map.equals(a2.map);
+        return map().equals(a2.map());
     }
 
     @Override
     public int hashCode() {
-        return map.hashCode();
+        return map().hashCode();
     }
 
     public static class ExplainablesImpl implements Explainables {
 
+        static final ExplainablesImpl EMPTY =
+                new ExplainablesImpl(Collections.emptyMap(), Collections.emptyMap(), Collections.emptyMap());
+
         Map<String, Explainable> explainableRelations;
         Map<String, Explainable> explainableAttributes;
         Map<Pair<String, String>, Explainable> explainableOwnerships;
 
-        ExplainablesImpl() {
-            this(new HashMap<>(), new HashMap<>(), new HashMap<>());
-        }
-
         ExplainablesImpl(Map<String, Explainable> explainableRelations, Map<String, Explainable> explainableAttributes,
                          Map<Pair<String, String>, Explainable> explainableOwnerships) {
             this.explainableRelations = explainableRelations;
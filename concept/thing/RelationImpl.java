@@ -25,13 +25,16 @@ import com.vaticle.typedb.client.api.connection.TypeDBTransaction;
 import com.vaticle.typedb.client.api.concept.thing.Relation;
 import com.vaticle.typedb.client.api.concept.thing.Thing;
 import com.vaticle.typedb.client.api.concept.type.RoleType;
+import com.vaticle.typedb.client.api.query.QueryFuture;
 import com.vaticle.typedb.client.concept.type.RelationTypeImpl;
 import com.vaticle.typedb.client.concept.type.RoleTypeImpl;
 import com.vaticle.typedb.client.concept.type.TypeImpl;
 import com.vaticle.typedb.common.collection.Bytes;
 import com.vaticle.typedb.protocol.ConceptProto;
+import com.vaticle.typedb.protocol.TransactionProto;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -99,12 +102,40 @@ public class RelationImpl extends ThingImpl implements Relation {
 
         @Override
         public void addPlayer(RoleType roleType, Thing player) {
-            execute(addPlayerReq(getIID(), protoRoleType(roleType), protoThing(player.getIID())));
+            addPlayerAsync(roleType, player).get();
         }
 
         @Override
         public void removePlayer(RoleType roleType, Thing player) {
-            execute(removePlayerReq(getIID(), protoRoleType(roleType), protoThing(player.getIID())));
+            removePlayerAsync(roleType, player).get();
+        }
+
+        @Override
+        public QueryFuture<Void> addPlayerAsync(RoleType roleType, Thing player) {
+            return query(addPlayerReq(getIID(), protoRoleType(roleType), protoThing(player.getIID()))).map(res -> null);
+        }
+
+        @Override
+        public QueryFuture<Void> removePlayerAsync(RoleType roleType, Thing player) {
+            return query(removePlayerReq(getIID(), protoRoleType(roleType), protoThing(player.getIID()))).map(res -> null);
+        }
+
+        @Override
+        public void addPlayers(Map<? extends RoleType, ? extends Collection<? extends Thing>> players) {
+            List<TransactionProto.Transaction.Req.Builder> requests = new ArrayList<>();
+            players.forEach((roleType, things) -> things.forEach(player -> requests.add(
+                    addPlayerReq(getIID(), protoRoleType(roleType), protoThing(player.getIID()))
+            )));
+            executeAll(requests);
+        }
+
+        @Override
+        public void removePlayers(Map<? extends RoleType, ? extends Collection<? extends Thing>> players) {
+            List<TransactionProto.Transaction.Req.Builder> requests = new ArrayList<>();
+            players.forEach((roleType, things) -> things.forEach(player -> requests.add(
+                    removePlayerReq(getIID(), protoRoleType(roleType), protoThing(player.getIID()))
+            )));
+            executeAll(requests);
         }
 
         @Override
@@ -26,13 +26,17 @@ import com.vaticle.typedb.client.api.concept.thing.Attribute;
 import com.vaticle.typedb.client.api.concept.thing.Thing;
 import com.vaticle.typedb.client.api.concept.type.AttributeType;
 import com.vaticle.typedb.client.api.concept.type.RoleType;
+import com.vaticle.typedb.client.api.query.QueryFuture;
 import com.vaticle.typedb.client.common.exception.TypeDBClientException;
+import com.vaticle.typedb.client.concept.BulkRequests;
 import com.vaticle.typedb.client.concept.ConceptImpl;
 import com.vaticle.typedb.client.concept.type.RoleTypeImpl;
 import com.vaticle.typedb.client.concept.type.ThingTypeImpl;
 import com.vaticle.typedb.protocol.ConceptProto;
 import com.vaticle.typedb.protocol.TransactionProto;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
 import java.util.stream.Stream;
 
@@ -49,6 +53,7 @@ import static com.vaticle.typedb.client.common.rpc.RequestBuilder.Thing.unsetHas
 import static com.vaticle.typedb.client.concept.type.TypeImpl.protoTypes;
 import static com.vaticle.typedb.common.util.Objects.className;
 import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.toList;
 
 public abstract class ThingImpl extends ConceptImpl implements Thing {
 
@@ -196,17 +201,42 @@ public abstract class ThingImpl extends ConceptImpl implements Thing {
 
         @Override
         public final void setHas(Attribute<?> attribute) {
-            execute(setHasReq(getIID(), protoThing(attribute.getIID())));
+            setHasAsync(attribute).get();
         }
 
         @Override
         public final void unsetHas(Attribute<?> attribute) {
-            execute(unsetHasReq(getIID(), protoThing(attribute.getIID())));
+            unsetHasAsync(attribute).get();
+        }
+
+        @Override
+        public final QueryFuture<Void> setHasAsync(Attribute<?> attribute) {
+            return query(setHasReq(getIID(), protoThing(attribute.getIID()))).map(res -> null);
+        }
+
+        @Override
+        public final QueryFuture<Void> unsetHasAsync(Attribute<?> attribute) {
+            return query(unsetHasReq(getIID(), protoThing(attribute.getIID()))).map(res -> null);
+        }
+
+        @Override
+        public final void setHas(Collection<? extends Attribute<?>> attributes) {
+            executeAll(attributes.stream().map(attribute -> setHasReq(getIID(), protoThing(attribute.getIID()))).collect(toList()));
+        }
+
+        @Override
+        public final void unsetHas(Collection<? extends Attribute<?>> attributes) {
+            executeAll(attributes.stream().map(attribute -> unsetHasReq(getIID(), protoThing(attribute.getIID()))).collect(toList()));
         }
 
         @Override
         public final void delete() {
-            execute(deleteReq(getIID()));
+            deleteAsync().get();
+        }
+
+        @Override
+        public final QueryFuture<Void> deleteAsync() {
+            return query(deleteReq(getIID())).map(res -> null);
         }
 
         @Override
@@ -223,6 +253,15 @@ public abstract class ThingImpl extends ConceptImpl implements Thing {
             return transactionRPC.execute(request).getThingRes();
         }
 
+        protected QueryFuture<ConceptProto.Thing.Res> query(TransactionProto.Transaction.Req.Builder request) {
+            return transactionRPC.query(request).map(TransactionProto.Transaction.Res::getThingRes);
+        }
+
+        protected List<ConceptProto.Thing.Res> executeAll(List<TransactionProto.Transaction.Req.Builder> requests) {
+            return BulkRequests.executeAll(transactionRPC, requests).stream()
+                    .map(TransactionProto.Transaction.Res::getThingRes).collect(toList());
+        }
+
         protected Stream<ConceptProto.Thing.ResPart> stream(TransactionProto.Transaction.Req.Builder request) {
             return transactionRPC.stream(request).map(TransactionProto.Transaction.ResPart::getThingResPart);
         }
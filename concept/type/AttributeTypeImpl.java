@@ -23,14 +23,20 @@ package com.vaticle.typedb.client.concept.type;
 
 import com.vaticle.typedb.client.api.connection.TypeDBTransaction;
 import com.vaticle.typedb.client.api.concept.type.AttributeType;
+import com.vaticle.typedb.client.api.query.QueryFuture;
 import com.vaticle.typedb.client.common.Label;
 import com.vaticle.typedb.client.common.exception.TypeDBClientException;
+import com.vaticle.typedb.client.common.rpc.RequestBuilder;
 import com.vaticle.typedb.client.concept.thing.AttributeImpl;
 import com.vaticle.typedb.client.concept.thing.ThingImpl;
 import com.vaticle.typedb.protocol.ConceptProto;
+import com.vaticle.typedb.protocol.TransactionProto;
 
 import javax.annotation.Nullable;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.stream.Stream;
 
 import static com.vaticle.typedb.client.common.exception.ErrorMessage.Concept.BAD_VALUE_TYPE;
@@ -46,6 +52,7 @@ import static com.vaticle.typedb.client.common.rpc.RequestBuilder.Type.Attribute
 import static com.vaticle.typedb.client.common.rpc.RequestBuilder.Type.AttributeType.putReq;
 import static com.vaticle.typedb.client.common.rpc.RequestBuilder.Type.AttributeType.setRegexReq;
 import static com.vaticle.typedb.common.util.Objects.className;
+import static java.util.stream.Collectors.toList;
 
 public class AttributeTypeImpl extends ThingTypeImpl implements AttributeType {
 
@@ -58,18 +65,18 @@ public class AttributeTypeImpl extends ThingTypeImpl implements AttributeType {
     public static AttributeTypeImpl of(ConceptProto.Type type) {
         switch (type.getValueType()) {
             case BOOLEAN:
-                return new AttributeTypeImpl.Boolean(Label.of(type.getLabel()), type.getRoot());
+                return AttributeTypeImpl.Boolean.of(type);
             case LONG:
-                return new AttributeTypeImpl.Long(Label.of(type.getLabel()), type.getRoot());
+                return AttributeTypeImpl.Long.of(type);
             case DOUBLE:
-                return new AttributeTypeImpl.Double(Label.of(type.getLabel()), type.getRoot());
+                return AttributeTypeImpl.Double.of(type);
             case STRING:
-                return new AttributeTypeImpl.String(Label.of(type.getLabel()), type.getRoot());
+                return AttributeTypeImpl.String.of(type);
             case DATETIME:
-                return new AttributeTypeImpl.DateTime(Label.of(type.getLabel()), type.getRoot());
+                return AttributeTypeImpl.DateTime.of(type);
             case OBJECT:
                 assert type.getRoot();
-                return new AttributeTypeImpl(Label.of(type.getLabel()), type.getRoot());
+                return TypeRegistry.intern(type, root -> new AttributeTypeImpl(Label.of(root.getLabel()), root.getRoot()));
             case UNRECOGNIZED:
             default:
                 throw new TypeDBClientException(BAD_VALUE_TYPE, type.getValueType());
@@ -145,6 +152,11 @@ public class AttributeTypeImpl extends ThingTypeImpl implements AttributeType {
             super.setSupertype(attributeType);
         }
 
+        @Override
+        public final QueryFuture<Void> setSupertypeAsync(AttributeType attributeType) {
+            return super.setSupertypeAsync(attributeType);
+        }
+
         @Override
         public Stream<? extends AttributeTypeImpl> getSubtypes() {
             Stream<AttributeTypeImpl> stream = super.getSubtypes().map(TypeImpl::asAttributeType);
@@ -175,20 +187,38 @@ public class AttributeTypeImpl extends ThingTypeImpl implements AttributeType {
         }
 
         protected final AttributeImpl<?> put(ConceptProto.Attribute.Value protoValue) {
-            ConceptProto.Type.Res res = execute(putReq(getLabel(), protoValue));
-            return AttributeImpl.of(res.getAttributeTypePutRes().getAttribute());
+            return putAsync(protoValue).get();
+        }
+
+        protected final QueryFuture<AttributeImpl<?>> putAsync(ConceptProto.Attribute.Value protoValue) {
+            return query(putReq(getLabel(), protoValue)).map(res -> AttributeImpl.of(res.getAttributeTypePutRes().getAttribute()));
+        }
+
+        protected final List<AttributeImpl<?>> putAll(List<ConceptProto.Attribute.Value> protoValues) {
+            List<TransactionProto.Transaction.Req.Builder> requests = new ArrayList<>(protoValues.size());
+            for (ConceptProto.Attribute.Value protoValue : protoValues) requests.add(putReq(getLabel(), protoValue));
+            List<AttributeImpl<?>> attributes = new ArrayList<>(requests.size());
+            for (ConceptProto.Type.Res res : executeAll(requests)) {
+                attributes.add(AttributeImpl.of(res.getAttributeTypePutRes().getAttribute()));
+            }
+            return attributes;
         }
 
         @Nullable
         protected final AttributeImpl<?> get(ConceptProto.Attribute.Value value) {
-            ConceptProto.Type.Res res = execute(getReq(getLabel(), value));
-            switch (res.getAttributeTypeGetRes().getResCase()) {
-                case ATTRIBUTE:
-                    return AttributeImpl.of(res.getAttributeTypeGetRes().getAttribute());
-                default:
-                case RES_NOT_SET:
-                    return null;
-            }
+            return getAsync(value).get();
+        }
+
+        protected final QueryFuture<AttributeImpl<?>> getAsync(ConceptProto.Attribute.Value value) {
+            return query(getReq(getLabel(), value)).map(res -> {
+                switch (res.getAttributeTypeGetRes().getResCase()) {
+                    case ATTRIBUTE:
+                        return AttributeImpl.of(res.getAttributeTypeGetRes().getAttribute());
+                    default:
+                    case RES_NOT_SET:
+                        return null;
+                }
+            });
         }
 
         @Override
@@ -247,7 +277,7 @@ public class AttributeTypeImpl extends ThingTypeImpl implements AttributeType {
         }
 
         public static AttributeTypeImpl.Boolean of(ConceptProto.Type typeProto) {
-            return new AttributeTypeImpl.Boolean(Label.of(typeProto.getLabel()), typeProto.getRoot());
+            return TypeRegistry.intern(typeProto, type -> new AttributeTypeImpl.Boolean(Label.of(type.getLabel()), type.getRoot()));
         }
 
         @Override
@@ -286,11 +316,27 @@ public class AttributeTypeImpl extends ThingTypeImpl implements AttributeType {
                 super.setSupertype(booleanAttributeType);
             }
 
+            @Override
+            public final QueryFuture<Void> setSupertypeAsync(AttributeType.Boolean booleanAttributeType) {
+                return super.setSupertypeAsync(booleanAttributeType);
+            }
+
             @Override
             public final AttributeImpl.Boolean put(boolean value) {
                 return super.put(protoBooleanAttributeValue(value)).asBoolean();
             }
 
+            @Override
+            public final QueryFuture<AttributeImpl.Boolean> putAsync(boolean value) {
+                return putAsync(protoBooleanAttributeValue(value)).map(AttributeImpl::asBoolean);
+            }
+
+            @Override
+            public final List<AttributeImpl.Boolean> put(Collection<java.lang.Boolean> values) {
+                return putAll(values.stream().map(RequestBuilder.Thing.Attribute::protoBooleanAttributeValue).collect(toList()))
+                        .stream().map(AttributeImpl::asBoolean).collect(toList());
+            }
+
             @Nullable
             @Override
             public final AttributeImpl.Boolean get(boolean value) {
@@ -298,6 +344,11 @@ public class AttributeTypeImpl extends ThingTypeImpl implements AttributeType {
                 return attr != null ? attr.asBoolean() : null;
             }
 
+            @Override
+            public final QueryFuture<AttributeImpl.Boolean> getAsync(boolean value) {
+                return getAsync(protoBooleanAttributeValue(value)).map(attr -> attr != null ? attr.asBoolean() : null);
+            }
+
             @Override
             public AttributeTypeImpl.Boolean.Remote asBoolean() {
                 return this;
@@ -312,7 +363,7 @@ public class AttributeTypeImpl extends ThingTypeImpl implements AttributeType {
         }
 
         public static AttributeTypeImpl.Long of(ConceptProto.Type typeProto) {
-            return new AttributeTypeImpl.Long(Label.of(typeProto.getLabel()), typeProto.getRoot());
+            return TypeRegistry.intern(typeProto, type -> new AttributeTypeImpl.Long(Label.of(type.getLabel()), type.getRoot()));
         }
 
         @Override
@@ -351,11 +402,27 @@ public class AttributeTypeImpl extends ThingTypeImpl implements AttributeType {
                 super.setSupertype(longAttributeType);
             }
 
+            @Override
+            public final QueryFuture<Void> setSupertypeAsync(AttributeType.Long longAttributeType) {
+                return super.setSupertypeAsync(longAttributeType);
+            }
+
             @Override
             public final AttributeImpl.Long put(long value) {
                 return super.put(protoLongAttributeValue(value)).asLong();
             }
 
+            @Override
+            public final QueryFuture<AttributeImpl.Long> putAsync(long value) {
+                return putAsync(protoLongAttributeValue(value)).map(AttributeImpl::asLong);
+            }
+
+            @Override
+            public final List<AttributeImpl.Long> put(Collection<java.lang.Long> values) {
+                return putAll(values.stream().map(RequestBuilder.Thing.Attribute::protoLongAttributeValue).collect(toList()))
+                        .stream().map(AttributeImpl::asLong).collect(toList());
+            }
+
             @Nullable
             @Override
             public final AttributeImpl.Long get(long value) {
@@ -363,6 +430,11 @@ public class AttributeTypeImpl extends ThingTypeImpl implements AttributeType {
                 return attr != null ? attr.asLong() : null;
             }
 
+            @Override
+            public final QueryFuture<AttributeImpl.Long> getAsync(long value) {
+                return getAsync(protoLongAttributeValue(value)).map(attr -> attr != null ? attr.asLong() : null);
+            }
+
             @Override
             public AttributeTypeImpl.Long.Remote asLong() {
                 return this;
@@ -377,7 +449,7 @@ public class AttributeTypeImpl extends ThingTypeImpl implements AttributeType {
         }
 
         public static AttributeTypeImpl.Double of(ConceptProto.Type typeProto) {
-            return new AttributeTypeImpl.Double(Label.of(typeProto.getLabel()), typeProto.getRoot());
+            return TypeRegistry.intern(typeProto, type -> new AttributeTypeImpl.Double(Label.of(type.getLabel()), type.getRoot()));
         }
 
         @Override
@@ -416,11 +488,27 @@ public class AttributeTypeImpl extends ThingTypeImpl implements AttributeType {
                 super.setSupertype(doubleAttributeType);
             }
 
+            @Override
+            public final QueryFuture<Void> setSupertypeAsync(AttributeType.Double doubleAttributeType) {
+                return super.setSupertypeAsync(doubleAttributeType);
+            }
+
             @Override
             public final AttributeImpl.Double put(double value) {
                 return super.put(protoDoubleAttributeValue(value)).asDouble();
             }
 
+            @Override
+            public final QueryFuture<AttributeImpl.Double> putAsync(double value) {
+                return putAsync(protoDoubleAttributeValue(value)).map(AttributeImpl::asDouble);
+            }
+
+            @Override
+            public final List<AttributeImpl.Double> put(Collection<java.lang.Double> values) {
+                return putAll(values.stream().map(RequestBuilder.Thing.Attribute::protoDoubleAttributeValue).collect(toList()))
+                        .stream().map(AttributeImpl::asDouble).collect(toList());
+            }
+
             @Nullable
             @Override
             public final AttributeImpl.Double get(double value) {
@@ -428,6 +516,11 @@ public class AttributeTypeImpl extends ThingTypeImpl implements AttributeType {
                 return attr != null ? attr.asDouble() : null;
             }
 
+            @Override
+            public final QueryFuture<AttributeImpl.Double> getAsync(double value) {
+                return getAsync(protoDoubleAttributeValue(value)).map(attr -> attr != null ? attr.asDouble() : null);
+            }
+
             @Override
             public AttributeTypeImpl.Double.Remote asDouble() {
                 return this;
@@ -442,7 +535,7 @@ public class AttributeTypeImpl extends ThingTypeImpl implements AttributeType {
         }
 
         public static AttributeTypeImpl.String of(ConceptProto.Type typeProto) {
-            return new AttributeTypeImpl.String(Label.of(typeProto.getLabel()), typeProto.getRoot());
+            return TypeRegistry.intern(typeProto, type -> new AttributeTypeImpl.String(Label.of(type.getLabel()), type.getRoot()));
         }
 
         @Override
@@ -481,11 +574,27 @@ public class AttributeTypeImpl extends ThingTypeImpl implements AttributeType {
                 super.setSupertype(stringAttributeType);
             }
 
+            @Override
+            public final QueryFuture<Void> setSupertypeAsync(AttributeType.String stringAttributeType) {
+                return super.setSupertypeAsync(stringAttributeType);
+            }
+
             @Override
             public final AttributeImpl.String put(java.lang.String value) {
                 return super.put(protoStringAttributeValue(value)).asString();
             }
 
+            @Override
+            public final QueryFuture<AttributeImpl.String> putAsync(java.lang.String value) {
+                return putAsync(protoStringAttributeValue(value)).map(AttributeImpl::asString);
+            }
+
+            @Override
+            public final List<AttributeImpl.String> put(Collection<java.lang.String> values) {
+                return putAll(values.stream().map(RequestBuilder.Thing.Attribute::protoStringAttributeValue).collect(toList()))
+                        .stream().map(AttributeImpl::asString).collect(toList());
+            }
+
             @Nullable
             @Override
             public final AttributeImpl.String get(java.lang.String value) {
@@ -493,18 +602,33 @@ public class AttributeTypeImpl extends ThingTypeImpl implements AttributeType {
                 return attr != null ? attr.asString() : null;
             }
 
+            @Override
+            public final QueryFuture<AttributeImpl.String> getAsync(java.lang.String value) {
+                return getAsync(protoStringAttributeValue(value)).map(attr -> attr != null ? attr.asString() : null);
+            }
+
             @Nullable
             @Override
             public final java.lang.String getRegex() {
-                ConceptProto.Type.Res res = execute(getRegexReq(getLabel()));
-                java.lang.String regex = res.getAttributeTypeGetRegexRes().getRegex();
-                return regex.isEmpty() ? null : regex;
+                return getRegexAsync().get();
+            }
+
+            @Override
+            public final QueryFuture<java.lang.String> getRegexAsync() {
+                return query(getRegexReq(getLabel())).map(res -> {
+                    java.lang.String regex = res.getAttributeTypeGetRegexRes().getRegex();
+                    return regex.isEmpty() ? null : regex;
+                });
             }
 
             @Override
             public final void setRegex(java.lang.String regex) {
-                if (regex == null) regex = "";
-                execute(setRegexReq(getLabel(), regex));
+                setRegexAsync(regex).get();
+            }
+
+            @Override
+            public final QueryFuture<Void> setRegexAsync(java.lang.String regex) {
+                return query(setRegexReq(getLabel(), regex == null ? "" : regex)).map(res -> null);
             }
 
             @Override
@@ -521,7 +645,7 @@ public class AttributeTypeImpl extends ThingTypeImpl implements AttributeType {
         }
 
         public static AttributeTypeImpl.DateTime of(ConceptProto.Type typeProto) {
-            return new AttributeTypeImpl.DateTime(Label.of(typeProto.getLabel()), typeProto.getRoot());
+            return TypeRegistry.intern(typeProto, type -> new AttributeTypeImpl.DateTime(Label.of(type.getLabel()), type.getRoot()));
         }
 
         @Override
@@ -560,11 +684,27 @@ public class AttributeTypeImpl extends ThingTypeImpl implements AttributeType {
                 super.setSupertype(dateTimeAttributeType);
             }
 
+            @Override
+            public final QueryFuture<Void> setSupertypeAsync(AttributeType.DateTime dateTimeAttributeType) {
+                return super.setSupertypeAsync(dateTimeAttributeType);
+            }
+
             @Override
             public final AttributeImpl.DateTime put(LocalDateTime value) {
                 return super.put(protoDateTimeAttributeValue(value)).asDateTime();
             }
 
+            @Override
+            public final QueryFuture<AttributeImpl.DateTime> putAsync(LocalDateTime value) {
+                return putAsync(protoDateTimeAttributeValue(value)).map(AttributeImpl::asDateTime);
+            }
+
+            @Override
+            public final List<AttributeImpl.DateTime> put(Collection<LocalDateTime> values) {
+                return putAll(values.stream().map(RequestBuilder.Thing.Attribute::protoDateTimeAttributeValue).collect(toList()))
+                        .stream().map(AttributeImpl::asDateTime).collect(toList());
+            }
+
             @Nullable
             @Override
             public final AttributeImpl.DateTime get(LocalDateTime value) {
@@ -572,6 +712,11 @@ public class AttributeTypeImpl extends ThingTypeImpl implements AttributeType {
                 return attr != null ? attr.asDateTime() : null;
             }
 
+            @Override
+            public final QueryFuture<AttributeImpl.DateTime> getAsync(LocalDateTime value) {
+                return getAsync(protoDateTimeAttributeValue(value)).map(attr -> attr != null ? attr.asDateTime() : null);
+            }
+
             @Override
             public AttributeTypeImpl.DateTime.Remote asDateTime() {
                 return this;
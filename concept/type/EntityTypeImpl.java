@@ -23,6 +23,7 @@ package com.vaticle.typedb.client.concept.type;
 
 import com.vaticle.typedb.client.api.connection.TypeDBTransaction;
 import com.vaticle.typedb.client.api.concept.type.EntityType;
+import com.vaticle.typedb.client.api.query.QueryFuture;
 import com.vaticle.typedb.client.common.Label;
 import com.vaticle.typedb.client.concept.thing.EntityImpl;
 import com.vaticle.typedb.client.concept.thing.ThingImpl;
@@ -39,7 +40,7 @@ public class EntityTypeImpl extends ThingTypeImpl implements EntityType {
     }
 
     public static EntityTypeImpl of(ConceptProto.Type typeProto) {
-        return new EntityTypeImpl(Label.of(typeProto.getLabel()), typeProto.getRoot());
+        return TypeRegistry.intern(typeProto, type -> new EntityTypeImpl(Label.of(type.getLabel()), type.getRoot()));
     }
 
     @Override
@@ -65,7 +66,12 @@ public class EntityTypeImpl extends ThingTypeImpl implements EntityType {
 
         @Override
         public final EntityImpl create() {
-            return EntityImpl.of(execute(createReq(getLabel())).getEntityTypeCreateRes().getEntity());
+            return createAsync().get();
+        }
+
+        @Override
+        public final QueryFuture<EntityImpl> createAsync() {
+            return query(createReq(getLabel())).map(res -> EntityImpl.of(res.getEntityTypeCreateRes().getEntity()));
         }
 
         @Override
@@ -73,6 +79,11 @@ public class EntityTypeImpl extends ThingTypeImpl implements EntityType {
             super.setSupertype(entityType);
         }
 
+        @Override
+        public final QueryFuture<Void> setSupertypeAsync(EntityType entityType) {
+            return super.setSupertypeAsync(entityType);
+        }
+
         @Override
         public final Stream<EntityTypeImpl> getSubtypes() {
             return super.getSubtypes().map(ThingTypeImpl::asEntityType);
@@ -23,6 +23,7 @@ package com.vaticle.typedb.client.concept.type;
 
 import com.vaticle.typedb.client.api.connection.TypeDBTransaction;
 import com.vaticle.typedb.client.api.concept.type.RelationType;
+import com.vaticle.typedb.client.api.query.QueryFuture;
 import com.vaticle.typedb.client.common.Label;
 import com.vaticle.typedb.client.concept.thing.RelationImpl;
 import com.vaticle.typedb.client.concept.thing.ThingImpl;
@@ -42,7 +43,7 @@ public class RelationTypeImpl extends ThingTypeImpl implements RelationType {
     }
 
     public static RelationTypeImpl of(ConceptProto.Type typeProto) {
-        return new RelationTypeImpl(Label.of(typeProto.getLabel()), typeProto.getRoot());
+        return TypeRegistry.intern(typeProto, type -> new RelationTypeImpl(Label.of(type.getLabel()), type.getRoot()));
     }
 
     @Override
@@ -68,8 +69,12 @@ public class RelationTypeImpl extends ThingTypeImpl implements RelationType {
 
         @Override
         public final RelationImpl create() {
-            ConceptProto.Type.Res res = execute(createReq(getLabel()));
-            return RelationImpl.of(res.getRelationTypeCreateRes().getRelation());
+            return createAsync().get();
+        }
+
+        @Override
+        public final QueryFuture<RelationImpl> createAsync() {
+            return query(createReq(getLabel())).map(res -> RelationImpl.of(res.getRelationTypeCreateRes().getRelation()));
         }
 
         @Override
@@ -77,12 +82,23 @@ public class RelationTypeImpl extends ThingTypeImpl implements RelationType {
             super.setSupertype(relationType);
         }
 
+        @Override
+        public final QueryFuture<Void> setSupertypeAsync(RelationType relationType) {
+            return super.setSupertypeAsync(relationType);
+        }
+
         @Override
         public final RoleTypeImpl getRelates(String roleLabel) {
-            ConceptProto.RelationType.GetRelatesForRoleLabel.Res res =
-                    execute(getRelatesReq(getLabel(), roleLabel)).getRelationTypeGetRelatesForRoleLabelRes();
-            if (res.hasRoleType()) return RoleTypeImpl.of(res.getRoleType());
-            else return null;
+            return getRelatesAsync(roleLabel).get();
+        }
+
+        @Override
+        public final QueryFuture<RoleTypeImpl> getRelatesAsync(String roleLabel) {
+            return query(getRelatesReq(getLabel(), roleLabel)).map(res -> {
+                ConceptProto.RelationType.GetRelatesForRoleLabel.Res relatesRes = res.getRelationTypeGetRelatesForRoleLabelRes();
+                if (relatesRes.hasRoleType()) return RoleTypeImpl.of(relatesRes.getRoleType());
+                else return null;
+            });
         }
 
         @Override
@@ -94,17 +110,32 @@ public class RelationTypeImpl extends ThingTypeImpl implements RelationType {
 
         @Override
         public final void setRelates(String roleLabel) {
-            execute(setRelatesReq(getLabel(), roleLabel));
+            setRelatesAsync(roleLabel).get();
+        }
+
+        @Override
+        public final QueryFuture<Void> setRelatesAsync(String roleLabel) {
+            return query(setRelatesReq(getLabel(), roleLabel)).map(res -> null);
         }
 
         @Override
         public final void setRelates(String roleLabel, String overriddenLabel) {
-            execute(setRelatesReq(getLabel(), roleLabel, overriddenLabel));
+            setRelatesAsync(roleLabel, overriddenLabel).get();
+        }
+
+        @Override
+        public final QueryFuture<Void> setRelatesAsync(String roleLabel, String overriddenLabel) {
+            return query(setRelatesReq(getLabel(), roleLabel, overriddenLabel)).map(res -> null);
         }
 
         @Override
         public final void unsetRelates(String roleLabel) {
-            execute(unsetRelatesReq(getLabel(), roleLabel));
+            unsetRelatesAsync(roleLabel).get();
+        }
+
+        @Override
+        public final QueryFuture<Void> unsetRelatesAsync(String roleLabel) {
+            return query(unsetRelatesReq(getLabel(), roleLabel)).map(res -> null);
         }
 
         @Override
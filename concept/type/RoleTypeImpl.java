@@ -24,6 +24,7 @@ package com.vaticle.typedb.client.concept.type;
 import com.vaticle.typedb.client.api.connection.TypeDBTransaction;
 import com.vaticle.typedb.client.api.concept.type.RelationType;
 import com.vaticle.typedb.client.api.concept.type.RoleType;
+import com.vaticle.typedb.client.api.query.QueryFuture;
 import com.vaticle.typedb.client.common.Label;
 import com.vaticle.typedb.client.common.rpc.RequestBuilder;
 import com.vaticle.typedb.protocol.ConceptProto;
@@ -41,7 +42,7 @@ public class RoleTypeImpl extends TypeImpl implements RoleType {
     }
 
     public static RoleTypeImpl of(ConceptProto.Type typeProto) {
-        return new RoleTypeImpl(Label.of(typeProto.getScope(), typeProto.getLabel()), typeProto.getRoot());
+        return TypeRegistry.intern(typeProto, type -> new RoleTypeImpl(Label.of(type.getScope(), type.getLabel()), type.getRoot()));
     }
 
     public static ConceptProto.Type protoRoleType(RoleType roleType) {
@@ -71,6 +72,11 @@ public class RoleTypeImpl extends TypeImpl implements RoleType {
             return supertype != null ? supertype.asRoleType() : null;
         }
 
+        @Override
+        public QueryFuture<RoleTypeImpl> getSupertypeAsync() {
+            return super.getSupertypeAsync().map(supertype -> supertype != null ? supertype.asRoleType() : null);
+        }
+
         @Override
         public final Stream<RoleTypeImpl> getSupertypes() {
             return super.getSupertypes().map(TypeImpl::asRoleType);
@@ -26,6 +26,7 @@ import com.vaticle.typedb.client.api.concept.type.AttributeType;
 import com.vaticle.typedb.client.api.concept.type.AttributeType.ValueType;
 import com.vaticle.typedb.client.api.concept.type.RoleType;
 import com.vaticle.typedb.client.api.concept.type.ThingType;
+import com.vaticle.typedb.client.api.query.QueryFuture;
 import com.vaticle.typedb.client.common.Label;
 import com.vaticle.typedb.client.common.exception.TypeDBClientException;
 import com.vaticle.typedb.client.common.rpc.RequestBuilder;
@@ -63,7 +64,7 @@ public class ThingTypeImpl extends TypeImpl implements ThingType {
                 return AttributeTypeImpl.of(typeProto);
             case THING_TYPE:
                 assert typeProto.getRoot();
-                return new ThingTypeImpl(Label.of(typeProto.getLabel()), typeProto.getRoot());
+                return TypeRegistry.intern(typeProto, type -> new ThingTypeImpl(Label.of(type.getLabel()), type.getRoot()));
             case UNRECOGNIZED:
             default:
                 throw new TypeDBClientException(BAD_ENCODING, typeProto.getEncoding());
@@ -91,7 +92,11 @@ public class ThingTypeImpl extends TypeImpl implements ThingType {
         }
 
         void setSupertype(ThingType thingType) {
-            execute(setSupertypeReq(getLabel(), protoThingType(thingType)));
+            setSupertypeAsync(thingType).get();
+        }
+
+        QueryFuture<Void> setSupertypeAsync(ThingType thingType) {
+            return query(setSupertypeReq(getLabel(), protoThingType(thingType))).map(res -> null);
         }
 
         @Override
@@ -100,6 +105,11 @@ public class ThingTypeImpl extends TypeImpl implements ThingType {
             return supertype != null ? supertype.asThingType() : null;
         }
 
+        @Override
+        public QueryFuture<ThingTypeImpl> getSupertypeAsync() {
+            return super.getSupertypeAsync().map(supertype -> supertype != null ? supertype.asThingType() : null);
+        }
+
         @Override
         public Stream<? extends ThingTypeImpl> getSupertypes() {
             Stream<? extends TypeImpl> supertypes = super.getSupertypes();
@@ -120,22 +130,42 @@ public class ThingTypeImpl extends TypeImpl implements ThingType {
 
         @Override
         public final void setAbstract() {
-            execute(setAbstractReq(getLabel()));
+            setAbstractAsync().get();
+        }
+
+        @Override
+        public final QueryFuture<Void> setAbstractAsync() {
+            return query(setAbstractReq(getLabel())).map(res -> null);
         }
 
         @Override
         public final void unsetAbstract() {
-            execute(unsetAbstractReq(getLabel()));
+            unsetAbstractAsync().get();
+        }
+
+        @Override
+        public final QueryFuture<Void> unsetAbstractAsync() {
+            return query(unsetAbstractReq(getLabel())).map(res -> null);
         }
 
         @Override
         public final void setPlays(RoleType roleType) {
-            execute(setPlaysReq(getLabel(), protoRoleType(roleType)));
+            setPlaysAsync(roleType).get();
+        }
+
+        @Override
+        public final QueryFuture<Void> setPlaysAsync(RoleType roleType) {
+            return query(setPlaysReq(getLabel(), protoRoleType(roleType))).map(res -> null);
         }
 
         @Override
         public final void setPlays(RoleType roleType, RoleType overriddenRoleType) {
-            execute(setPlaysReq(getLabel(), protoRoleType(roleType), protoRoleType(overriddenRoleType)));
+            setPlaysAsync(roleType, overriddenRoleType).get();
+        }
+
+        @Override
+        public final QueryFuture<Void> setPlaysAsync(RoleType roleType, RoleType overriddenRoleType) {
+            return query(setPlaysReq(getLabel(), protoRoleType(roleType), protoRoleType(overriddenRoleType))).map(res -> null);
         }
 
         @Override
@@ -145,7 +175,17 @@ public class ThingTypeImpl extends TypeImpl implements ThingType {
 
         @Override
         public void setOwns(AttributeType attributeType, boolean isKey) {
-            execute(setOwnsReq(getLabel(), protoThingType(attributeType), isKey));
+            setOwnsAsync(attributeType, isKey).get();
+        }
+
+        @Override
+        public QueryFuture<Void> setOwnsAsync(AttributeType attributeType) {
+            return setOwnsAsync(attributeType, false);
+        }
+
+        @Override
+        public QueryFuture<Void> setOwnsAsync(AttributeType attributeType, boolean isKey) {
+            return query(setOwnsReq(getLabel(), protoThingType(attributeType), isKey)).map(res -> null);
         }
 
         @Override
@@ -155,7 +195,17 @@ public class ThingTypeImpl extends TypeImpl implements ThingType {
 
         @Override
         public final void setOwns(AttributeType attributeType, AttributeType overriddenType, boolean isKey) {
-            execute(setOwnsReq(getLabel(), protoThingType(attributeType), protoThingType(overriddenType), isKey));
+            setOwnsAsync(attributeType, overriddenType, isKey).get();
+        }
+
+        @Override
+        public QueryFuture<Void> setOwnsAsync(AttributeType attributeType, AttributeType overriddenType) {
+            return setOwnsAsync(attributeType, overriddenType, false);
+        }
+
+        @Override
+        public final QueryFuture<Void> setOwnsAsync(AttributeType attributeType, AttributeType overriddenType, boolean isKey) {
+            return query(setOwnsReq(getLabel(), protoThingType(attributeType), protoThingType(overriddenType), isKey)).map(res -> null);
         }
 
         @Override
@@ -191,12 +241,22 @@ public class ThingTypeImpl extends TypeImpl implements ThingType {
 
         @Override
         public final void unsetPlays(RoleType roleType) {
-            execute(unsetPlaysReq(getLabel(), protoRoleType(roleType)));
+            unsetPlaysAsync(roleType).get();
+        }
+
+        @Override
+        public final QueryFuture<Void> unsetPlaysAsync(RoleType roleType) {
+            return query(unsetPlaysReq(getLabel(), protoRoleType(roleType))).map(res -> null);
         }
 
         @Override
         public final void unsetOwns(AttributeType attributeType) {
-            execute(unsetOwnsReq(getLabel(), protoThingType(attributeType)));
+            unsetOwnsAsync(attributeType).get();
+        }
+
+        @Override
+        public final QueryFuture<Void> unsetOwnsAsync(AttributeType attributeType) {
+            return query(unsetOwnsReq(getLabel(), protoThingType(attributeType))).map(res -> null);
         }
 
         @Override
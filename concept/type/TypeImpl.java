@@ -32,8 +32,10 @@ import com.vaticle.typedb.client.api.concept.type.RelationType;
 import com.vaticle.typedb.client.api.concept.type.RoleType;
 import com.vaticle.typedb.client.api.concept.type.ThingType;
 import com.vaticle.typedb.client.api.concept.type.Type;
+import com.vaticle.typedb.client.api.query.QueryFuture;
 import com.vaticle.typedb.client.common.Label;
 import com.vaticle.typedb.client.common.exception.TypeDBClientException;
+import com.vaticle.typedb.client.concept.BulkRequests;
 import com.vaticle.typedb.client.concept.ConceptImpl;
 import com.vaticle.typedb.client.concept.thing.AttributeImpl;
 import com.vaticle.typedb.client.concept.thing.EntityImpl;
@@ -172,14 +174,27 @@ public abstract class TypeImpl extends ConceptImpl implements Type {
 
         @Override
         public final void setLabel(String newLabel) {
-            execute(setLabelReq(getLabel(), newLabel));
-            this.label = Label.of(label.scope().orElse(null), newLabel);
-            this.hash = Objects.hash(transactionExt, this.label);
+            setLabelAsync(newLabel).get();
+        }
+
+        @Override
+        public final QueryFuture<Void> setLabelAsync(String newLabel) {
+            // The label only changes once the server confirms the rename, so a rejected rename leaves this type as it was
+            return query(setLabelReq(getLabel(), newLabel)).map(res -> {
+                this.label = Label.of(label.scope().orElse(null), newLabel);
+                this.hash = Objects.hash(transactionExt, this.label);
+                return null;
+            });
         }
 
         @Override
         public final boolean isAbstract() {
-            return execute(isAbstractReq(getLabel())).getTypeIsAbstractRes().getAbstract();
+            return isAbstractAsync().get();
+        }
+
+        @Override
+        public final QueryFuture<Boolean> isAbstractAsync() {
+            return query(isAbstractReq(getLabel())).map(res -> res.getTypeIsAbstractRes().getAbstract());
         }
 
         @Override
@@ -235,7 +250,16 @@ public abstract class TypeImpl extends ConceptImpl implements Type {
         @Nullable
         @Override
         public TypeImpl getSupertype() {
-            ConceptProto.Type.GetSupertype.Res res = execute(getSupertypeReq(getLabel())).getTypeGetSupertypeRes();
+            return getSupertypeAsync().get();
+        }
+
+        @Override
+        public QueryFuture<? extends TypeImpl> getSupertypeAsync() {
+            return query(getSupertypeReq(getLabel())).map(res -> supertype(res.getTypeGetSupertypeRes()));
+        }
+
+        @Nullable
+        private static TypeImpl supertype(ConceptProto.Type.GetSupertype.Res res) {
             switch (res.getResCase()) {
                 case TYPE:
                     return TypeImpl.of(res.getType());
@@ -261,7 +285,12 @@ public abstract class TypeImpl extends ConceptImpl implements Type {
 
         @Override
         public final void delete() {
-            execute(deleteReq(getLabel()));
+            deleteAsync().get();
+        }
+
+        @Override
+        public final QueryFuture<Void> deleteAsync() {
+            return query(deleteReq(getLabel())).map(res -> null);
         }
 
         final TypeDBTransaction tx() {
@@ -272,6 +301,15 @@ public abstract class TypeImpl extends ConceptImpl implements Type {
             return transactionExt.execute(request).getTypeRes();
         }
 
+        protected QueryFuture<ConceptProto.Type.Res> query(TransactionProto.Transaction.Req.Builder request) {
+            return transactionExt.query(request).map(TransactionProto.Transaction.Res::getTypeRes);
+        }
+
+        protected List<ConceptProto.Type.Res> executeAll(List<TransactionProto.Transaction.Req.Builder> requests) {
+            return BulkRequests.executeAll(transactionExt, requests).stream()
+                    .map(TransactionProto.Transaction.Res::getTypeRes).collect(toList());
+        }
+
         protected Stream<ConceptProto.Type.ResPart> stream(TransactionProto.Transaction.Req.Builder request) {
             return transactionExt.stream(request).map(TransactionProto.Transaction.ResPart::getTypeResPart);
         }
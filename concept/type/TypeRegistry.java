@@ -0,0 +1,79 @@
+/*
+ * Copyright (C) 2021 Vaticle
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.vaticle.typedb.client.concept.type;
+
+import com.vaticle.typedb.client.common.collection.BoundedInterner;
+import com.vaticle.typedb.protocol.ConceptProto;
+
+import java.util.function.Function;
+
+public class TypeRegistry {
+
+    // Decoded types are immutable values of everything in the key, so one canonical instance can serve every session
+    private static final BoundedInterner<Key, TypeImpl> types = new BoundedInterner<>(10_000);
+
+    @SuppressWarnings("unchecked")
+    static <TYPE extends TypeImpl> TYPE intern(ConceptProto.Type typeProto, Function<ConceptProto.Type, TYPE> constructor) {
+        return (TYPE) types.intern(new Key(typeProto), () -> constructor.apply(typeProto));
+    }
+
+    public static void invalidate() {
+        types.clear();
+    }
+
+    private static class Key {
+
+        private final ConceptProto.Type.Encoding encoding;
+        private final ConceptProto.AttributeType.ValueType valueType;
+        private final String scope;
+        private final String label;
+        private final boolean isRoot;
+        private final int hash;
+
+        private Key(ConceptProto.Type typeProto) {
+            this.encoding = typeProto.getEncoding();
+            this.valueType = typeProto.getValueType();
+            this.scope = typeProto.getScope();
+            this.label = typeProto.getLabel();
+            this.isRoot = typeProto.getRoot();
+            int hash = encoding.ordinal();
+            hash = 31 * hash + valueType.ordinal();
+            hash = 31 * hash + scope.hashCode();
+            hash = 31 * hash + label.hashCode();
+            this.hash = 31 * hash + (isRoot ? 1 : 0);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Key that = (Key) o;
+            return this.encoding == that.encoding && this.valueType == that.valueType && this.isRoot == that.isRoot
+                    && this.label.equals(that.label) && this.scope.equals(that.scope);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
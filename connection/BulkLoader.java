@@ -0,0 +1,324 @@
+/*
+ * Copyright (C) 2021 Vaticle
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.vaticle.typedb.client.connection;
+
+import com.vaticle.typedb.client.api.connection.TypeDBSession;
+import com.vaticle.typedb.client.api.connection.TypeDBTransaction;
+import com.vaticle.typedb.client.api.query.QueryFuture;
+import com.vaticle.typedb.client.common.exception.TypeDBClientException;
+import com.vaticle.typedb.client.concept.BulkRequests;
+import com.vaticle.typedb.common.collection.ConcurrentSet;
+import com.vaticle.typedb.common.concurrent.NamedThreadFactory;
+import com.vaticle.typeql.lang.query.TypeQLInsert;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+import static com.vaticle.typedb.client.api.connection.TypeDBTransaction.Type.WRITE;
+import static com.vaticle.typedb.client.common.exception.ErrorMessage.Client.BULK_LOADER_CLOSED;
+import static com.vaticle.typedb.client.common.exception.ErrorMessage.Client.CLUSTER_REPLICA_NOT_PRIMARY;
+import static com.vaticle.typedb.client.common.exception.ErrorMessage.Client.CLUSTER_UNABLE_TO_CONNECT;
+import static com.vaticle.typedb.client.common.exception.ErrorMessage.Client.NEGATIVE_VALUE_NOT_ALLOWED;
+import static com.vaticle.typedb.client.common.exception.ErrorMessage.Client.UNABLE_TO_CONNECT;
+import static com.vaticle.typedb.client.common.exception.ErrorMessage.Internal.UNEXPECTED_INTERRUPTION;
+
+public class BulkLoader implements AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(BulkLoader.class);
+    private static final String TYPEDB_CLIENT_BULK_LOADER_THREAD_NAME = "typedb-client-bulk-loader";
+    private static final int RETRY_BACKOFF_MILLIS = 100;
+
+    private final TypeDBSession session;
+    private final Options options;
+    private final ExecutorService executor;
+    private final Semaphore batchPermits;
+    private final ConcurrentSet<CompletableFuture<Void>> pending;
+    private final AtomicReference<TypeDBClientException> failure;
+    private final Metrics metrics;
+    private List<String> batch;
+    private long batchBytes;
+    private boolean isOpen;
+
+    public BulkLoader(TypeDBSession session) {
+        this(session, Options.defaults());
+    }
+
+    public BulkLoader(TypeDBSession session, Options options) {
+        this.session = session;
+        this.options = options;
+        executor = Executors.newFixedThreadPool(options.parallelisation, NamedThreadFactory.create(TYPEDB_CLIENT_BULK_LOADER_THREAD_NAME));
+        // Each writer may have one more batch queued behind the one it is committing, beyond that the producer waits
+        batchPermits = new Semaphore(options.parallelisation * 2);
+        pending = new ConcurrentSet<>();
+        failure = new AtomicReference<>();
+        metrics = new Metrics();
+        batch = new ArrayList<>(options.batchSize);
+        batchBytes = 0;
+        isOpen = true;
+    }
+
+    public Metrics metrics() {
+        return metrics;
+    }
+
+    public void load(Stream<String> queries) {
+        queries.forEach(this::add);
+        flush();
+    }
+
+    public void add(TypeQLInsert query) {
+        add(query.toString());
+    }
+
+    public void add(String query) {
+        List<String> full;
+        synchronized (this) {
+            if (!isOpen) throw new TypeDBClientException(BULK_LOADER_CLOSED);
+            throwIfFailed();
+            batch.add(query);
+            batchBytes += BulkRequests.encodedSize(query);
+            if (batch.size() < options.batchSize && batchBytes < options.batchBytes) return;
+            full = detachBatch();
+        }
+        submit(full);
+    }
+
+    public void flush() {
+        List<String> remaining;
+        synchronized (this) {
+            remaining = detachBatch();
+        }
+        submit(remaining);
+        try {
+            CompletableFuture.allOf(pending.toArray(new CompletableFuture<?>[0])).join();
+        } catch (CompletionException e) {
+            // The first failure is recorded by the batch itself, and rethrown below
+        }
+        throwIfFailed();
+    }
+
+    private void throwIfFailed() {
+        TypeDBClientException error = failure.get();
+        if (error != null) throw error;
+    }
+
+    private List<String> detachBatch() {
+        List<String> queries = batch;
+        batch = new ArrayList<>(options.batchSize);
+        batchBytes = 0;
+        return queries;
+    }
+
+    private synchronized void restoreBatch(List<String> queries) {
+        batch.addAll(0, queries);
+        batchBytes += queries.stream().mapToLong(BulkRequests::encodedSize).sum();
+    }
+
+    private void submit(List<String> queries) {
+        if (queries.isEmpty()) return;
+        // The wait happens outside the monitor, so other producers can keep filling the next batch
+        try {
+            batchPermits.acquire();
+        } catch (InterruptedException e) {
+            restoreBatch(queries);
+            throw new TypeDBClientException(UNEXPECTED_INTERRUPTION);
+        }
+        metrics.inFlight.incrementAndGet();
+        CompletableFuture<Void> future = CompletableFuture.runAsync(() -> commit(queries), executor);
+        pending.add(future);
+        future.whenComplete((res, error) -> {
+            pending.remove(future);
+            metrics.inFlight.decrementAndGet();
+            batchPermits.release();
+            if (error != null) failure.compareAndSet(null, asTypeDBClientException(error));
+        });
+    }
+
+    private void commit(List<String> queries) {
+        for (int attempt = 1; ; attempt++) {
+            boolean isCommitSent = false;
+            try (TypeDBTransaction tx = session.transaction(WRITE)) {
+                // Every insert is sent before any answer is read, so the whole batch is pipelined
+                List<QueryFuture<Long>> inserted = new ArrayList<>(queries.size());
+                for (String query : queries) inserted.add(tx.query().insertCount(query));
+                inserted.forEach(QueryFuture::get);
+                isCommitSent = true;
+                tx.commit();
+                metrics.queries.add(queries.size());
+                metrics.commits.increment();
+                return;
+            } catch (TypeDBClientException e) {
+                // A commit whose response was lost may have succeeded, and retrying it would insert the batch twice
+                if (isCommitSent || !isRetryable(e) || attempt >= options.maxAttempts) throw e;
+                LOG.debug("Bulk load of a batch of {} queries failed on attempt {}, retrying.", queries.size(), attempt, e);
+                metrics.retries.increment();
+                try {
+                    Thread.sleep((long) RETRY_BACKOFF_MILLIS * attempt);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    throw e;
+                }
+            }
+        }
+    }
+
+    private static boolean isRetryable(TypeDBClientException e) {
+        return e.getErrorMessage() == UNABLE_TO_CONNECT
+                || e.getErrorMessage() == CLUSTER_UNABLE_TO_CONNECT
+                || e.getErrorMessage() == CLUSTER_REPLICA_NOT_PRIMARY;
+    }
+
+    private static TypeDBClientException asTypeDBClientException(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (cause instanceof TypeDBClientException) return (TypeDBClientException) cause;
+        else return new TypeDBClientException(cause.getMessage(), cause);
+    }
+
+    @Override
+    public void close() {
+        try {
+            flush();
+        } finally {
+            synchronized (this) {
+                isOpen = false;
+            }
+            executor.shutdown();
+            LOG.debug("Bulk loader closed: {}", metrics);
+        }
+    }
+
+    public static class Options {
+
+        private int parallelisation = TypeDBClientImpl.calculateParallelisation();
+        private int batchSize = 100;
+        private long batchBytes = 1_000_000;
+        private int maxAttempts = 3;
+
+        private Options() {}
+
+        public static Options defaults() {
+            return new Options();
+        }
+
+        public int parallelisation() {
+            return parallelisation;
+        }
+
+        public Options parallelisation(int parallelisation) {
+            if (parallelisation < 1) throw new TypeDBClientException(NEGATIVE_VALUE_NOT_ALLOWED, parallelisation);
+            this.parallelisation = parallelisation;
+            return this;
+        }
+
+        public int batchSize() {
+            return batchSize;
+        }
+
+        public Options batchSize(int batchSize) {
+            if (batchSize < 1) throw new TypeDBClientException(NEGATIVE_VALUE_NOT_ALLOWED, batchSize);
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        public long batchBytes() {
+            return batchBytes;
+        }
+
+        public Options batchBytes(long batchBytes) {
+            if (batchBytes < 1) throw new TypeDBClientException(NEGATIVE_VALUE_NOT_ALLOWED, batchBytes);
+            this.batchBytes = batchBytes;
+            return this;
+        }
+
+        public int maxAttempts() {
+            return maxAttempts;
+        }
+
+        public Options maxAttempts(int maxAttempts) {
+            if (maxAttempts < 1) throw new TypeDBClientException(NEGATIVE_VALUE_NOT_ALLOWED, maxAttempts);
+            this.maxAttempts = maxAttempts;
+            return this;
+        }
+    }
+
+    public static class Metrics {
+
+        private final long startNanos;
+        private final LongAdder queries;
+        private final LongAdder commits;
+        private final LongAdder retries;
+        private final AtomicInteger inFlight;
+
+        private Metrics() {
+            startNanos = System.nanoTime();
+            queries = new LongAdder();
+            commits = new LongAdder();
+            retries = new LongAdder();
+            inFlight = new AtomicInteger(0);
+        }
+
+        public long queries() {
+            return queries.sum();
+        }
+
+        public long commits() {
+            return commits.sum();
+        }
+
+        public long retries() {
+            return retries.sum();
+        }
+
+        public int inFlightBatches() {
+            return inFlight.get();
+        }
+
+        public double queriesPerSecond() {
+            return queries() / elapsedSeconds();
+        }
+
+        public double commitsPerSecond() {
+            return commits() / elapsedSeconds();
+        }
+
+        private double elapsedSeconds() {
+            return Math.max(System.nanoTime() - startNanos, 1) / 1_000_000_000.0;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d queries (%.1f/s), %d commits (%.1f/s), %d retries, %d batches in flight",
+                                 queries(), queriesPerSecond(), commits(), commitsPerSecond(), retries(), inFlightBatches());
+        }
+    }
+}
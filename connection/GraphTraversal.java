@@ -0,0 +1,176 @@
+/*
+ * Copyright (C) 2021 Vaticle
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.vaticle.typedb.client.connection;
+
+import com.google.protobuf.ByteString;
+import com.vaticle.typedb.client.api.concept.thing.Thing;
+import com.vaticle.typedb.client.api.connection.TypeDBTransaction;
+import com.vaticle.typedb.client.common.exception.TypeDBClientException;
+import com.vaticle.typedb.client.concept.BulkRequests;
+import com.vaticle.typedb.client.concept.thing.ThingImpl;
+import com.vaticle.typedb.protocol.ConceptProto;
+import com.vaticle.typedb.protocol.TransactionProto;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static com.vaticle.typedb.client.common.exception.ErrorMessage.Client.NEGATIVE_VALUE;
+import static com.vaticle.typedb.client.common.exception.ErrorMessage.Client.NEGATIVE_VALUE_NOT_ALLOWED;
+import static com.vaticle.typedb.client.common.exception.ErrorMessage.Client.UNSUPPORTED_TRANSACTION;
+import static com.vaticle.typedb.client.common.exception.ErrorMessage.Concept.MISSING_TRANSACTION;
+import static com.vaticle.typedb.client.common.rpc.RequestBuilder.Thing.Attribute.getOwnersReq;
+import static com.vaticle.typedb.client.common.rpc.RequestBuilder.Thing.Relation.getPlayersReq;
+import static com.vaticle.typedb.client.common.rpc.RequestBuilder.Thing.getHasReq;
+import static com.vaticle.typedb.client.common.rpc.RequestBuilder.Thing.getRelationsReq;
+import static com.vaticle.typedb.common.collection.Bytes.hexStringToBytes;
+import static com.vaticle.typedb.common.util.Objects.className;
+import static java.util.Collections.emptyList;
+
+public class GraphTraversal {
+
+    private final TypeDBTransaction.Extended transaction;
+    private final Options options;
+
+    public GraphTraversal(TypeDBTransaction transaction) {
+        this(transaction, Options.defaults());
+    }
+
+    public GraphTraversal(TypeDBTransaction transaction, Options options) {
+        if (transaction == null) throw new TypeDBClientException(MISSING_TRANSACTION);
+        if (!(transaction instanceof TypeDBTransaction.Extended)) {
+            throw new TypeDBClientException(UNSUPPORTED_TRANSACTION, className(transaction.getClass()));
+        }
+        this.transaction = (TypeDBTransaction.Extended) transaction;
+        this.options = options;
+    }
+
+    public List<List<Thing>> expand(Collection<? extends Thing> start) {
+        // Raw IIDs take half the memory of their hex strings, and let known neighbours be skipped before decoding
+        Set<ByteString> visited = new HashSet<>();
+        List<Thing> frontier = new ArrayList<>(start.size());
+        for (Thing thing : start) {
+            if (visited.add(ByteString.copyFrom(hexStringToBytes(thing.getIID())))) frontier.add(thing);
+        }
+        List<List<Thing>> levels = new ArrayList<>();
+        levels.add(frontier);
+        for (int depth = 1; depth <= options.maxDepth() && !frontier.isEmpty(); depth++) {
+            frontier = expandLevel(frontier, visited);
+            if (!frontier.isEmpty()) levels.add(frontier);
+        }
+        return levels;
+    }
+
+    private List<Thing> expandLevel(List<Thing> frontier, Set<ByteString> visited) {
+        List<TransactionProto.Transaction.Req.Builder> requests = new ArrayList<>();
+        for (Thing thing : frontier) {
+            requests.add(getRelationsReq(thing.getIID(), emptyList()));
+            if (thing.isRelation()) requests.add(getPlayersReq(thing.getIID(), emptyList()));
+            if (thing.isAttribute()) requests.add(getOwnersReq(thing.getIID()));
+            if (options.attributes()) requests.add(getHasReq(thing.getIID(), false));
+        }
+        // Every neighbourhood stream of the level is opened before the first one is read. They go through the
+        // transaction's neighbourhood cache, which only records a neighbourhood once its stream has been read to the end
+        List<Stream<ConceptProto.Thing.ResPart>> streams = new ArrayList<>(requests.size());
+        for (Stream<TransactionProto.Transaction.ResPart> stream : BulkRequests.streamAll(transaction, requests)) {
+            streams.add(stream.map(TransactionProto.Transaction.ResPart::getThingResPart));
+        }
+
+        List<Thing> next = new ArrayList<>();
+        Iterator<Stream<ConceptProto.Thing.ResPart>> responses = streams.iterator();
+        for (Thing thing : frontier) {
+            Stream<ConceptProto.Thing> neighbours = responses.next()
+                    .flatMap(rp -> rp.getThingGetRelationsResPart().getRelationsList().stream());
+            if (thing.isRelation()) {
+                neighbours = Stream.concat(neighbours, responses.next()
+                        .flatMap(rp -> rp.getRelationGetPlayersResPart().getThingsList().stream()));
+            }
+            if (thing.isAttribute()) {
+                neighbours = Stream.concat(neighbours, responses.next()
+                        .flatMap(rp -> rp.getAttributeGetOwnersResPart().getThingsList().stream()));
+            }
+            if (options.attributes()) {
+                neighbours = Stream.concat(neighbours, responses.next()
+                        .flatMap(rp -> rp.getThingGetHasResPart().getAttributesList().stream()));
+            }
+            Iterator<ConceptProto.Thing> iterator = neighbours.iterator();
+            int fanOut = 0;
+            while (fanOut < options.maxFanOut() && iterator.hasNext()) {
+                ConceptProto.Thing neighbour = iterator.next();
+                if (visited.add(neighbour.getIid())) {
+                    next.add(ThingImpl.of(neighbour));
+                    fanOut++;
+                }
+            }
+            // Neighbours beyond the fan-out limit are still read, since an unfinished stream keeps its response queue
+            // and server-side iterator open until the transaction closes, and is never cached
+            iterator.forEachRemaining(neighbour -> {});
+        }
+        return next;
+    }
+
+    public static class Options {
+
+        private int maxDepth = 2;
+        private int maxFanOut = Integer.MAX_VALUE;
+        private boolean attributes = false;
+
+        private Options() {}
+
+        public static Options defaults() {
+            return new Options();
+        }
+
+        public int maxDepth() {
+            return maxDepth;
+        }
+
+        public Options maxDepth(int maxDepth) {
+            if (maxDepth < 0) throw new TypeDBClientException(NEGATIVE_VALUE, maxDepth);
+            this.maxDepth = maxDepth;
+            return this;
+        }
+
+        public int maxFanOut() {
+            return maxFanOut;
+        }
+
+        public Options maxFanOut(int maxFanOut) {
+            if (maxFanOut < 1) throw new TypeDBClientException(NEGATIVE_VALUE_NOT_ALLOWED, maxFanOut);
+            this.maxFanOut = maxFanOut;
+            return this;
+        }
+
+        public boolean attributes() {
+            return attributes;
+        }
+
+        public Options attributes(boolean attributes) {
+            this.attributes = attributes;
+            return this;
+        }
+    }
+}
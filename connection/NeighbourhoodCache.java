@@ -0,0 +1,230 @@
+/*
+ * Copyright (C) 2021 Vaticle
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.vaticle.typedb.client.connection;
+
+import com.vaticle.typedb.client.api.connection.NeighbourhoodCacheMetrics;
+import com.vaticle.typedb.protocol.ConceptProto;
+import com.vaticle.typedb.protocol.TransactionProto.Transaction.Req;
+import com.vaticle.typedb.protocol.TransactionProto.Transaction.ResPart;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static java.util.Spliterator.IMMUTABLE;
+import static java.util.Spliterator.ORDERED;
+import static java.util.Spliterators.spliteratorUnknownSize;
+
+public class NeighbourhoodCache implements NeighbourhoodCacheMetrics {
+
+    static final int DEFAULT_MAX_ANSWERS = 100_000;
+
+    private final int maxSize;
+    private final int maxAnswers;
+    private final int maxEntryAnswers;
+    private final Map<ConceptProto.Thing.Req, Entry> entries;
+    private final LongAdder hits;
+    private final LongAdder misses;
+    private final LongAdder evictions;
+    private long answers;
+
+    NeighbourhoodCache(int maxSize, int maxAnswers) {
+        this.maxSize = maxSize;
+        this.maxAnswers = maxAnswers;
+        // One large neighbourhood would otherwise push most others out, so it is streamed without being cached
+        this.maxEntryAnswers = Math.max(1, maxAnswers / 10);
+        this.hits = new LongAdder();
+        this.misses = new LongAdder();
+        this.evictions = new LongAdder();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+        this.answers = 0;
+    }
+
+    static boolean isCacheable(Req.Builder request) {
+        if (request.getReqCase() != Req.ReqCase.THING_REQ) return false;
+        switch (request.getThingReq().getReqCase()) {
+            case THING_GET_HAS_REQ:
+            case THING_GET_RELATIONS_REQ:
+            case THING_GET_PLAYING_REQ:
+            case RELATION_GET_PLAYERS_REQ:
+            case RELATION_GET_PLAYERS_BY_ROLE_TYPE_REQ:
+            case RELATION_GET_RELATING_REQ:
+            case ATTRIBUTE_GET_OWNERS_REQ:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private static int answers(ResPart part) {
+        ConceptProto.Thing.ResPart res = part.getThingResPart();
+        switch (res.getResCase()) {
+            case THING_GET_HAS_RES_PART:
+                return res.getThingGetHasResPart().getAttributesCount();
+            case THING_GET_RELATIONS_RES_PART:
+                return res.getThingGetRelationsResPart().getRelationsCount();
+            case THING_GET_PLAYING_RES_PART:
+                return res.getThingGetPlayingResPart().getRoleTypesCount();
+            case RELATION_GET_PLAYERS_RES_PART:
+                return res.getRelationGetPlayersResPart().getThingsCount();
+            case RELATION_GET_PLAYERS_BY_ROLE_TYPE_RES_PART:
+                return res.getRelationGetPlayersByRoleTypeResPart().getRoleTypesWithPlayersCount();
+            case RELATION_GET_RELATING_RES_PART:
+                return res.getRelationGetRelatingResPart().getRoleTypesCount();
+            case ATTRIBUTE_GET_OWNERS_RES_PART:
+                return res.getAttributeGetOwnersResPart().getThingsCount();
+            default:
+                return 1;
+        }
+    }
+
+    @Nullable
+    Stream<ResPart> get(Req.Builder request) {
+        Entry entry;
+        synchronized (entries) {
+            entry = entries.get(request.getThingReq());
+        }
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return entry.parts.stream();
+    }
+
+    Stream<ResPart> record(Req.Builder request, Stream<ResPart> parts) {
+        // The thing request holds the IID, the operation and its argument types, and nothing transaction-specific
+        ConceptProto.Thing.Req key = request.getThingReq();
+        return StreamSupport.stream(spliteratorUnknownSize(new RecordingIterator(key, parts.iterator()), ORDERED | IMMUTABLE), false);
+    }
+
+    @Override
+    public long hits() {
+        return hits.sum();
+    }
+
+    @Override
+    public long misses() {
+        return misses.sum();
+    }
+
+    @Override
+    public long evictions() {
+        return evictions.sum();
+    }
+
+    @Override
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    @Override
+    public int maxSize() {
+        return maxSize;
+    }
+
+    @Override
+    public long answers() {
+        synchronized (entries) {
+            return answers;
+        }
+    }
+
+    @Override
+    public int maxAnswers() {
+        return maxAnswers;
+    }
+
+    private void put(ConceptProto.Thing.Req key, Entry entry) {
+        synchronized (entries) {
+            Entry previous = entries.put(key, entry);
+            if (previous != null) answers -= previous.answers;
+            answers += entry.answers;
+            // Iteration starts at the least recently used entry; the new entry fits both bounds on its own
+            Iterator<Entry> eldest = entries.values().iterator();
+            while (entries.size() > maxSize || answers > maxAnswers) {
+                answers -= eldest.next().answers;
+                eldest.remove();
+                evictions.increment();
+            }
+        }
+    }
+
+    private static class Entry {
+
+        private final List<ResPart> parts;
+        private final int answers;
+
+        private Entry(List<ResPart> parts, int answers) {
+            this.parts = parts;
+            this.answers = answers;
+        }
+    }
+
+    private class RecordingIterator implements Iterator<ResPart> {
+
+        private final ConceptProto.Thing.Req key;
+        private final Iterator<ResPart> parts;
+        private List<ResPart> recorded;
+        private int recordedAnswers;
+        private boolean isDone;
+
+        private RecordingIterator(ConceptProto.Thing.Req key, Iterator<ResPart> parts) {
+            this.key = key;
+            this.parts = parts;
+            this.recorded = new ArrayList<>();
+            this.recordedAnswers = 0;
+            this.isDone = false;
+        }
+
+        @Override
+        public boolean hasNext() {
+            boolean hasNext = parts.hasNext();
+            // Only a fully consumed stream is a complete answer, so partially read streams are never cached
+            if (!hasNext && !isDone) {
+                isDone = true;
+                if (recorded != null) put(key, new Entry(recorded, recordedAnswers));
+            }
+            return hasNext;
+        }
+
+        @Override
+        public ResPart next() {
+            ResPart part = parts.next();
+            if (recorded != null) {
+                recordedAnswers += answers(part);
+                // Past the per-entry limit the parts are dropped rather than buffered for an entry that is never stored
+                if (recordedAnswers > maxEntryAnswers) recorded = null;
+                else recorded.add(part);
+            }
+            return part;
+        }
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright (C) 2021 Vaticle
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.vaticle.typedb.client.connection;
+
+import com.vaticle.typedb.client.api.answer.ConceptMap;
+import com.vaticle.typedb.client.api.connection.TypeDBOptions;
+import com.vaticle.typedb.client.api.connection.TypeDBSession;
+import com.vaticle.typedb.client.api.connection.TypeDBTransaction;
+import com.vaticle.typedb.client.common.exception.TypeDBClientException;
+import com.vaticle.typedb.common.concurrent.NamedThreadFactory;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static com.vaticle.typedb.client.api.connection.TypeDBTransaction.Type.READ;
+import static com.vaticle.typedb.client.common.exception.ErrorMessage.Client.NEGATIVE_VALUE_NOT_ALLOWED;
+import static com.vaticle.typedb.client.common.exception.ErrorMessage.Internal.UNEXPECTED_INTERRUPTION;
+import static java.util.Spliterator.IMMUTABLE;
+import static java.util.Spliterators.spliteratorUnknownSize;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+public class ParallelReader implements AutoCloseable {
+
+    private static final String TYPEDB_CLIENT_PARALLEL_READER_THREAD_NAME = "typedb-client-parallel-reader";
+    private static final int MERGE_BUFFER_SIZE = 1_000;
+    private static final int MERGE_POLL_MILLIS = 100;
+    private static final Object DONE = new Object();
+
+    private final List<TypeDBTransaction> transactions;
+    @Nullable
+    private final TypeDBOptions options;
+    private final ExecutorService executor;
+
+    public ParallelReader(TypeDBSession session, int parallelisation) {
+        this(session, parallelisation, null);
+    }
+
+    public ParallelReader(TypeDBSession session, int parallelisation, @Nullable TypeDBOptions options) {
+        if (parallelisation < 1) throw new TypeDBClientException(NEGATIVE_VALUE_NOT_ALLOWED, parallelisation);
+        this.options = options;
+        // The transmitter hands each new transaction the next executor, so the transactions are spread across them
+        transactions = new ArrayList<>(parallelisation);
+        for (int i = 0; i < parallelisation; i++) {
+            // Without explicit options the session picks its own defaults, which differ between core and cluster
+            transactions.add(options == null ? session.transaction(READ) : session.transaction(READ, options));
+        }
+        executor = Executors.newFixedThreadPool(parallelisation, NamedThreadFactory.create(TYPEDB_CLIENT_PARALLEL_READER_THREAD_NAME));
+    }
+
+    public Stream<ConceptMap> match(List<String> queries) {
+        // A stream that is not read to the end must be closed, which stops the producers still feeding it
+        List<Stream<ConceptMap>> answers = submit(queries);
+        Merge merge = new Merge(answers.size());
+        answers.forEach(stream -> executor.execute(() -> merge.produce(stream)));
+        return StreamSupport.stream(spliteratorUnknownSize(merge, IMMUTABLE), false).onClose(merge::cancel);
+    }
+
+    public Stream<ConceptMap> matchOrdered(List<String> queries) {
+        // Every query is already running on the server, so later queries are prefetched while earlier ones are read
+        return submit(queries).stream().flatMap(stream -> stream);
+    }
+
+    private List<Stream<ConceptMap>> submit(List<String> queries) {
+        List<List<String>> partitions = new ArrayList<>(transactions.size());
+        for (int i = 0; i < transactions.size(); i++) partitions.add(new ArrayList<>());
+        for (int i = 0; i < queries.size(); i++) partitions.get(i % transactions.size()).add(queries.get(i));
+
+        List<List<Stream<ConceptMap>>> partitionAnswers = new ArrayList<>(transactions.size());
+        for (int i = 0; i < transactions.size(); i++) {
+            if (partitions.get(i).isEmpty()) partitionAnswers.add(new ArrayList<>());
+            else if (options == null) partitionAnswers.add(transactions.get(i).query().matchAll(partitions.get(i)));
+            else partitionAnswers.add(transactions.get(i).query().matchAll(partitions.get(i), options));
+        }
+        List<Stream<ConceptMap>> answers = new ArrayList<>(queries.size());
+        for (int i = 0; i < queries.size(); i++) {
+            answers.add(partitionAnswers.get(i % transactions.size()).get(i / transactions.size()));
+        }
+        return answers;
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+        transactions.forEach(TypeDBTransaction::close);
+    }
+
+    private static class Merge implements Iterator<ConceptMap> {
+
+        private final BlockingQueue<Object> queue;
+        private final AtomicBoolean isStopped;
+        private final AtomicReference<TypeDBClientException> failure;
+        private int remaining;
+        private ConceptMap next;
+
+        private Merge(int producers) {
+            this.queue = new LinkedBlockingQueue<>(MERGE_BUFFER_SIZE);
+            this.isStopped = new AtomicBoolean(false);
+            this.failure = new AtomicReference<>();
+            this.remaining = producers;
+            this.next = null;
+        }
+
+        private void produce(Stream<ConceptMap> answers) {
+            try {
+                Iterator<ConceptMap> iterator = answers.iterator();
+                while (iterator.hasNext()) {
+                    if (!offer(iterator.next())) return;
+                }
+                offer(DONE);
+            } catch (InterruptedException e) {
+                fail(new TypeDBClientException(UNEXPECTED_INTERRUPTION));
+            } catch (TypeDBClientException e) {
+                fail(e);
+            } catch (Throwable e) {
+                fail(new TypeDBClientException(e.getMessage(), e));
+            }
+        }
+
+        private boolean offer(Object item) throws InterruptedException {
+            // Producers never block for long, so they notice when the consumer or another producer stops the merge
+            while (!isStopped.get()) {
+                if (queue.offer(item, MERGE_POLL_MILLIS, MILLISECONDS)) return true;
+            }
+            return false;
+        }
+
+        private void fail(TypeDBClientException error) {
+            // The first failure ends the merge, so the other producers stop reading answers nobody will consume
+            failure.compareAndSet(null, error);
+            isStopped.set(true);
+        }
+
+        private void cancel() {
+            isStopped.set(true);
+            queue.clear();
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (next == null && remaining > 0) {
+                Object item = poll();
+                if (item == DONE) remaining--;
+                else if (item != null) next = (ConceptMap) item;
+            }
+            return next != null;
+        }
+
+        private Object poll() {
+            TypeDBClientException error = failure.get();
+            if (error != null) {
+                remaining = 0;
+                cancel();
+                throw error;
+            }
+            try {
+                return queue.poll(MERGE_POLL_MILLIS, MILLISECONDS);
+            } catch (InterruptedException e) {
+                throw new TypeDBClientException(UNEXPECTED_INTERRUPTION);
+            }
+        }
+
+        @Override
+        public ConceptMap next() {
+            if (!hasNext()) throw new NoSuchElementException();
+            ConceptMap answer = next;
+            next = null;
+            return answer;
+        }
+    }
+}
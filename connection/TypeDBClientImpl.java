@@ -26,25 +26,38 @@ import com.vaticle.typedb.client.api.connection.TypeDBClient;
 import com.vaticle.typedb.client.api.connection.TypeDBOptions;
 import com.vaticle.typedb.client.api.connection.TypeDBSession;
 import com.vaticle.typedb.client.common.exception.TypeDBClientException;
+import com.vaticle.typedb.client.common.rpc.LatencyEstimator;
 import com.vaticle.typedb.client.common.rpc.TypeDBStub;
 import com.vaticle.typedb.client.stream.RequestTransmitter;
 import com.vaticle.typedb.common.concurrent.NamedThreadFactory;
+import io.grpc.ConnectivityState;
+import io.grpc.Deadline;
 import io.grpc.ManagedChannel;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeoutException;
 
+import static com.vaticle.typedb.client.common.exception.ErrorMessage.Client.UNABLE_TO_CONNECT;
 import static com.vaticle.typedb.client.common.exception.ErrorMessage.Internal.ILLEGAL_CAST;
 import static com.vaticle.typedb.common.util.Objects.className;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 
 public abstract class TypeDBClientImpl implements TypeDBClient {
 
     private static final String TYPEDB_CLIENT_RPC_THREAD_NAME = "typedb-client-rpc";
+    private static final String TYPEDB_CLIENT_CLOSE_THREAD_NAME = "typedb-client-close";
+    private static final int CLOSE_TIMEOUT_MILLIS = 10_000;
 
     private final ManagedChannel channel;
     private final TypeDBStub stub;
     private final RequestTransmitter transmitter;
+    private final LatencyEstimator latency;
     private final TypeDBDatabaseManagerImpl databaseMgr;
     private final ConcurrentMap<ByteString, TypeDBSessionImpl> sessions;
 
@@ -52,9 +65,11 @@ public abstract class TypeDBClientImpl implements TypeDBClient {
         channel = typeDBConnectionFactory.newManagedChannel(address);
         stub = typeDBConnectionFactory.newTypeDBStub(channel);
         NamedThreadFactory threadFactory = NamedThreadFactory.create(TYPEDB_CLIENT_RPC_THREAD_NAME);
-        transmitter = new RequestTransmitter(parallelisation, threadFactory);
-        databaseMgr = new TypeDBDatabaseManagerImpl(this);
+        latency = new LatencyEstimator();
+        transmitter = new RequestTransmitter(parallelisation, threadFactory, latency);
+        databaseMgr = new TypeDBDatabaseManagerImpl(this, typeDBConnectionFactory.options());
         sessions = new ConcurrentHashMap<>();
+        if (typeDBConnectionFactory.options().warmUpTimeoutMillis().isPresent()) channel.getState(true);
     }
 
     public static int calculateParallelisation() {
@@ -67,7 +82,7 @@ public abstract class TypeDBClientImpl implements TypeDBClient {
 
     @Override
     public TypeDBSessionImpl session(String database, TypeDBSession.Type type) {
-        return session(database, type, TypeDBOptions.core());
+        return session(database, type, TypeDBOptions.coreDefaults());
     }
 
     @Override
@@ -98,10 +113,37 @@ public abstract class TypeDBClientImpl implements TypeDBClient {
         throw new TypeDBClientException(ILLEGAL_CAST, className(TypeDBClient.Cluster.class));
     }
 
+    public boolean awaitConnected(Deadline deadline) {
+        CompletableFuture<Void> ready = new CompletableFuture<>();
+        awaitReady(channel.getState(true), ready);
+        try {
+            ready.get(deadline.timeRemaining(NANOSECONDS), NANOSECONDS);
+            return true;
+        } catch (TimeoutException | ExecutionException e) {
+            ready.cancel(false);
+            return false;
+        } catch (InterruptedException e) {
+            ready.cancel(false);
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void awaitReady(ConnectivityState state, CompletableFuture<Void> ready) {
+        if (ready.isDone()) return;
+        if (state == ConnectivityState.READY) ready.complete(null);
+        else if (state == ConnectivityState.SHUTDOWN) ready.completeExceptionally(new TypeDBClientException(UNABLE_TO_CONNECT));
+        else channel.notifyWhenStateChanged(state, () -> awaitReady(channel.getState(true), ready));
+    }
+
     public ManagedChannel channel() {
         return channel;
     }
 
+    public LatencyEstimator networkLatency() {
+        return latency;
+    }
+
     TypeDBStub stub() {
         return stub;
     }
@@ -116,9 +158,26 @@ public abstract class TypeDBClientImpl implements TypeDBClient {
 
     @Override
     public void close() {
+        closeAsync().join();
+    }
+
+    @Override
+    public CompletableFuture<Void> closeAsync() {
+        Deadline deadline = Deadline.after(CLOSE_TIMEOUT_MILLIS, MILLISECONDS);
+        // Closing blocks on channel termination, so it runs on its own threads rather than the common pool
+        ExecutorService closer = Executors.newFixedThreadPool(
+                calculateParallelisation(), NamedThreadFactory.create(TYPEDB_CLIENT_CLOSE_THREAD_NAME)
+        );
+        CompletableFuture<?>[] sessionsClosed = sessions.values().stream()
+                .map(session -> session.closeAsync(deadline, closer)).toArray(CompletableFuture<?>[]::new);
+        return CompletableFuture.allOf(sessionsClosed)
+                .thenRunAsync(() -> shutdown(deadline), closer)
+                .whenComplete((res, error) -> closer.shutdown());
+    }
+
+    private void shutdown(Deadline deadline) {
         try {
-            sessions.values().forEach(TypeDBSessionImpl::close);
-            channel.shutdown().awaitTermination(10, TimeUnit.SECONDS);
+            channel.shutdown().awaitTermination(deadline.timeRemaining(MILLISECONDS), MILLISECONDS);
             transmitter.close();
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
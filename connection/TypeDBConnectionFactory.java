@@ -21,20 +21,37 @@
 
 package com.vaticle.typedb.client.connection;
 
+import com.vaticle.typedb.client.api.connection.TypeDBConnectionOptions;
 import com.vaticle.typedb.client.common.rpc.TypeDBStub;
 import io.grpc.ManagedChannel;
 import io.grpc.netty.NettyChannelBuilder;
 
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
 public abstract class TypeDBConnectionFactory {
 
+    private final TypeDBConnectionOptions options;
+
+    protected TypeDBConnectionFactory(TypeDBConnectionOptions options) {
+        this.options = options;
+    }
+
+    public TypeDBConnectionOptions options() {
+        return options;
+    }
+
     public abstract ManagedChannel newManagedChannel(String address);
 
     public abstract TypeDBStub newTypeDBStub(ManagedChannel channel);
 
     protected ManagedChannel plainTextChannel(String address) {
-        return NettyChannelBuilder.forTarget(address)
-                .usePlaintext()
-                .build();
+        return withKeepAlive(NettyChannelBuilder.forTarget(address).usePlaintext()).build();
+    }
+
+    protected NettyChannelBuilder withKeepAlive(NettyChannelBuilder builder) {
+        // Pings keep idle connections open through proxies and NATs; the server must permit the configured rate
+        options.keepAliveTimeMillis().ifPresent(millis -> builder.keepAliveTime(millis, MILLISECONDS).keepAliveWithoutCalls(true));
+        return builder;
     }
 
 }
@@ -21,9 +21,15 @@
 
 package com.vaticle.typedb.client.connection;
 
+import com.vaticle.typedb.client.api.concept.SchemaSnapshot;
 import com.vaticle.typedb.client.api.connection.database.Database;
+import com.vaticle.typedb.client.common.collection.CachedValue;
 import com.vaticle.typedb.client.common.rpc.TypeDBStub;
 
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
 import static com.vaticle.typedb.client.common.rpc.RequestBuilder.Core.Database.deleteReq;
 import static com.vaticle.typedb.client.common.rpc.RequestBuilder.Core.Database.schemaReq;
 import static com.vaticle.typedb.client.connection.TypeDBDatabaseManagerImpl.nonNull;
@@ -32,10 +38,16 @@ public class TypeDBDatabaseImpl implements Database {
 
     private final String name;
     private final TypeDBDatabaseManagerImpl databaseMgr;
+    private final AtomicReference<CachedValue<String>> schema;
+    private final AtomicReference<CachedValue<SchemaSnapshot>> snapshot;
+    private final AtomicLong schemaVersion;
 
     public TypeDBDatabaseImpl(TypeDBDatabaseManagerImpl databaseMgr, String name) {
         this.databaseMgr = databaseMgr;
         this.name = nonNull((name));
+        this.schema = new AtomicReference<>(CachedValue.invalid());
+        this.snapshot = new AtomicReference<>(CachedValue.invalid());
+        this.schemaVersion = new AtomicLong();
     }
 
     private TypeDBStub stub() {
@@ -49,12 +61,43 @@ public class TypeDBDatabaseImpl implements Database {
 
     @Override
     public String schema() {
-        return stub().databaseSchema(schemaReq(name)).getSchema();
+        long version = schemaVersion.get();
+        CachedValue<String> cached = schema.get();
+        if (cached.isValid(version)) return cached.value();
+        String text = stub().databaseSchema(schemaReq(name)).getSchema();
+        // If the schema was invalidated while it was being fetched, the fetched text may already be out of date
+        if (schemaVersion.get() == version) {
+            schema.compareAndSet(cached, CachedValue.of(text, version, databaseMgr.cacheTimeoutNanos()));
+        }
+        return text;
+    }
+
+    SchemaSnapshot schemaSnapshot(Supplier<SchemaSnapshot> loader) {
+        long version = schemaVersion.get();
+        CachedValue<SchemaSnapshot> cached = snapshot.get();
+        if (cached.isValid(version)) return cached.value();
+        SchemaSnapshot loaded = loader.get();
+        // A snapshot loaded across a schema commit may already be out of date, so it is returned but not cached
+        if (schemaVersion.get() == version) {
+            snapshot.compareAndSet(cached, CachedValue.of(loaded, version));
+        }
+        return loaded;
+    }
+
+    long schemaVersion() {
+        return schemaVersion.get();
+    }
+
+    public void invalidateSchema() {
+        schemaVersion.incrementAndGet();
+        schema.set(CachedValue.invalid());
+        snapshot.set(CachedValue.invalid());
     }
 
     @Override
     public void delete() {
         stub().databaseDelete(deleteReq(name));
+        databaseMgr.invalidate(name);
     }
 
     @Override
@@ -21,48 +21,90 @@
 
 package com.vaticle.typedb.client.connection;
 
-import com.vaticle.typedb.client.api.connection.database.Database;
+import com.vaticle.typedb.client.api.connection.TypeDBConnectionOptions;
 import com.vaticle.typedb.client.api.connection.database.DatabaseManager;
 import com.vaticle.typedb.client.common.exception.TypeDBClientException;
 import com.vaticle.typedb.client.common.rpc.TypeDBStub;
 
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import static com.vaticle.typedb.client.common.exception.ErrorMessage.Client.DB_DOES_NOT_EXIST;
 import static com.vaticle.typedb.client.common.exception.ErrorMessage.Client.MISSING_DB_NAME;
 import static com.vaticle.typedb.client.common.rpc.RequestBuilder.Core.DatabaseManager.allReq;
 import static com.vaticle.typedb.client.common.rpc.RequestBuilder.Core.DatabaseManager.containsReq;
 import static com.vaticle.typedb.client.common.rpc.RequestBuilder.Core.DatabaseManager.createReq;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static java.util.stream.Collectors.toList;
 
 public class TypeDBDatabaseManagerImpl implements DatabaseManager {
 
+    private static final int DEFAULT_CACHE_TIMEOUT_MILLIS = 10_000;
+
     private final TypeDBClientImpl client;
+    private final long cacheTimeoutNanos;
+    // One handle per name is kept for the client's lifetime, so every session shares the same schema cache
+    private final ConcurrentMap<String, TypeDBDatabaseImpl> databases;
+    private final ConcurrentMap<String, Long> existsUntilNanos;
 
-    public TypeDBDatabaseManagerImpl(TypeDBClientImpl client) {
+    public TypeDBDatabaseManagerImpl(TypeDBClientImpl client, TypeDBConnectionOptions options) {
         this.client = client;
+        this.cacheTimeoutNanos = MILLISECONDS.toNanos(options.cacheTimeoutMillis().orElse(DEFAULT_CACHE_TIMEOUT_MILLIS));
+        this.databases = new ConcurrentHashMap<>();
+        this.existsUntilNanos = new ConcurrentHashMap<>();
     }
 
     @Override
-    public Database get(String name) {
-        if (contains(name)) return new TypeDBDatabaseImpl(this, name);
-        else throw new TypeDBClientException(DB_DOES_NOT_EXIST, name);
+    public TypeDBDatabaseImpl get(String name) {
+        if (isKnownToExist(nonNull(name))) return databases.get(name);
+        else if (stub().databasesContains(containsReq(name)).getContains()) return register(name);
+        invalidate(name);
+        throw new TypeDBClientException(DB_DOES_NOT_EXIST, name);
     }
 
     @Override
     public boolean contains(String name) {
-        return stub().databasesContains(containsReq(nonNull(name))).getContains();
+        if (isKnownToExist(nonNull(name))) return true;
+        boolean contains = stub().databasesContains(containsReq(name)).getContains();
+        if (contains) register(name);
+        else invalidate(name);
+        return contains;
     }
 
     @Override
     public void create(String name) {
         stub().databasesCreate(createReq(nonNull(name)));
+        register(name);
     }
 
     @Override
     public List<TypeDBDatabaseImpl> all() {
-        List<String> databases = stub().databasesAll(allReq()).getNamesList();
-        return databases.stream().map(name -> new TypeDBDatabaseImpl(this, name)).collect(toList());
+        List<String> names = stub().databasesAll(allReq()).getNamesList();
+        existsUntilNanos.keySet().stream().filter(name -> !names.contains(name)).forEach(this::invalidate);
+        return names.stream().map(this::register).collect(toList());
+    }
+
+    @Override
+    public void invalidate(String name) {
+        existsUntilNanos.remove(nonNull(name));
+        // The handle may still be held by open sessions, so its cached schema is dropped rather than the handle
+        TypeDBDatabaseImpl database = databases.get(name);
+        if (database != null) database.invalidateSchema();
+    }
+
+    public TypeDBDatabaseImpl register(String name) {
+        existsUntilNanos.put(name, System.nanoTime() + cacheTimeoutNanos);
+        return databases.computeIfAbsent(name, n -> new TypeDBDatabaseImpl(this, n));
+    }
+
+    long cacheTimeoutNanos() {
+        return cacheTimeoutNanos;
+    }
+
+    private boolean isKnownToExist(String name) {
+        Long expiryNanos = existsUntilNanos.get(name);
+        return expiryNanos != null && System.nanoTime() - expiryNanos < 0;
     }
 
     TypeDBStub stub() {
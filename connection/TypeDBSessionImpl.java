@@ -22,23 +22,31 @@
 package com.vaticle.typedb.client.connection;
 
 import com.google.protobuf.ByteString;
+import com.vaticle.typedb.client.api.concept.SchemaSnapshot;
 import com.vaticle.typedb.client.api.connection.TypeDBOptions;
 import com.vaticle.typedb.client.api.connection.TypeDBSession;
 import com.vaticle.typedb.client.api.connection.TypeDBTransaction;
 import com.vaticle.typedb.client.common.exception.TypeDBClientException;
+import com.vaticle.typedb.client.common.rpc.LatencyEstimator;
 import com.vaticle.typedb.client.common.rpc.TypeDBStub;
+import com.vaticle.typedb.client.concept.SchemaSnapshotImpl;
+import com.vaticle.typedb.client.logic.RuleCache;
 import com.vaticle.typedb.client.stream.RequestTransmitter;
 import com.vaticle.typedb.common.collection.ConcurrentSet;
 import com.vaticle.typedb.protocol.SessionProto;
+import io.grpc.ConnectivityState;
+import io.grpc.Deadline;
 
 import java.time.Duration;
-import java.time.Instant;
 import java.util.Timer;
 import java.util.TimerTask;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.StampedLock;
 
+import static com.vaticle.typedb.client.api.connection.TypeDBTransaction.Type.READ;
 import static com.vaticle.typedb.client.common.exception.ErrorMessage.Client.SESSION_CLOSED;
 import static com.vaticle.typedb.client.common.rpc.RequestBuilder.Session.closeReq;
 import static com.vaticle.typedb.client.common.rpc.RequestBuilder.Session.openReq;
@@ -50,6 +58,7 @@ public class TypeDBSessionImpl implements TypeDBSession {
 
     private final TypeDBClientImpl client;
     private final TypeDBDatabaseImpl database;
+    private final RuleCache ruleCache;
     private final ByteString sessionID;
     private final ConcurrentSet<TypeDBTransaction.Extended> transactions;
     private final Type type;
@@ -57,19 +66,25 @@ public class TypeDBSessionImpl implements TypeDBSession {
     private final Timer pulse;
     private final ReadWriteLock accessLock;
     private final AtomicBoolean isOpen;
-    private final int networkLatencyMillis;
+    private final int openLatencyMillis;
 
     public TypeDBSessionImpl(TypeDBClientImpl client, String database, Type type, TypeDBOptions options) {
         this.client = client;
         this.type = type;
         this.options = options;
-        Instant startTime = Instant.now();
+        // The first call on a channel that is not yet connected also pays for the connection setup
+        boolean isConnected = client.channel().getState(false).equals(ConnectivityState.READY);
+        long startNanos = System.nanoTime();
         SessionProto.Session.Open.Res res = client.stub().sessionOpen(
                 openReq(database, type.proto(), options.proto())
         );
-        Instant endTime = Instant.now();
-        this.database = new TypeDBDatabaseImpl(client.databases(), database);
-        networkLatencyMillis = (int) (Duration.between(startTime, endTime).toMillis() - res.getServerDurationMillis());
+        long endNanos = System.nanoTime();
+        this.database = client.databases().register(database);
+        // Cached rules are shared by the transactions of this session until a schema commit bumps the database version
+        this.ruleCache = new RuleCache(client.databases().cacheTimeoutNanos(), this.database::schemaVersion);
+        double roundTripMillis = (endNanos - startNanos) / 1_000_000.0 - res.getServerDurationMillis();
+        openLatencyMillis = (int) Math.round(roundTripMillis);
+        if (isConnected) latency().update(roundTripMillis);
         sessionID = res.getSessionId();
         transactions = new ConcurrentSet<>();
         accessLock = new StampedLock().asReadWriteLock();
@@ -88,11 +103,23 @@ public class TypeDBSessionImpl implements TypeDBSession {
     public TypeDBDatabaseImpl database() { return database; }
 
     @Override
-    public TypeDBOptions options() { return options; }
+    public TypeDBOptions options() {
+        // Sessions opened without options share the frozen defaults, so callers are given a mutable copy of them
+        return options.isFrozen() ? options.copy() : options;
+    }
+
+    @Override
+    public SchemaSnapshot schemaSnapshot() {
+        return database.schemaSnapshot(() -> {
+            try (TypeDBTransaction.Extended transaction = (TypeDBTransaction.Extended) transaction(READ)) {
+                return SchemaSnapshotImpl.load(transaction);
+            }
+        });
+    }
 
     @Override
     public TypeDBTransaction transaction(TypeDBTransaction.Type type) {
-        return transaction(type, TypeDBOptions.core());
+        return transaction(type, TypeDBOptions.coreDefaults());
     }
 
     @Override
@@ -118,22 +145,55 @@ public class TypeDBSessionImpl implements TypeDBSession {
         return client.transmitter();
     }
 
-    int networkLatencyMillis() { return networkLatencyMillis; }
+    RuleCache ruleCache() {
+        return ruleCache;
+    }
+
+    LatencyEstimator latency() {
+        return client.networkLatency();
+    }
+
+    @Override
+    public Duration networkLatency() {
+        return Duration.ofMillis(networkLatencyMillis());
+    }
+
+    int networkLatencyMillis() {
+        // Until the channel has been sampled, the session open measurement is the best estimate available
+        if (!latency().hasSamples()) return openLatencyMillis;
+        return latency().smoothedMillis();
+    }
 
     @Override
     public void close() {
+        if (markClosed()) {
+            transactions.forEach(TypeDBTransaction.Extended::close);
+            try {
+                stub().sessionClose(closeReq(sessionID));
+            } catch (TypeDBClientException e) {
+                // Most likely the session is already closed or the server is no longer running.
+            }
+        }
+    }
+
+    CompletableFuture<Void> closeAsync(Deadline deadline, Executor executor) {
+        if (!markClosed()) return CompletableFuture.completedFuture(null);
+        CompletableFuture<?>[] transactionsClosed = transactions.stream()
+                .map(transaction -> CompletableFuture.runAsync(transaction::close, executor).handle((res, error) -> null))
+                .toArray(CompletableFuture<?>[]::new);
+        // Failures are ignored for the same reasons as in close()
+        CompletableFuture<?> sessionClosed = stub().sessionCloseAsync(closeReq(sessionID), deadline).handle((res, error) -> null);
+        return CompletableFuture.allOf(CompletableFuture.allOf(transactionsClosed), sessionClosed);
+    }
+
+    private boolean markClosed() {
         try {
             accessLock.writeLock().lock();
-            if (isOpen.compareAndSet(true, false)) {
-                transactions.forEach(TypeDBTransaction.Extended::close);
-                client.removeSession(this);
-                pulse.cancel();
-                try {
-                    stub().sessionClose(closeReq(sessionID));
-                } catch (TypeDBClientException e) {
-                    // Most likely the session is already closed or the server is no longer running.
-                }
-            }
+            // No transaction can be opened once the flag is cleared, so they are closed after the lock is released
+            if (!isOpen.compareAndSet(true, false)) return false;
+            client.removeSession(this);
+            pulse.cancel();
+            return true;
         } finally {
             accessLock.writeLock().unlock();
         }
@@ -146,7 +206,9 @@ public class TypeDBSessionImpl implements TypeDBSession {
             if (!isOpen()) return;
             boolean alive;
             try {
+                long startNanos = System.nanoTime();
                 alive = stub().sessionPulse(pulseReq(sessionID)).getAlive();
+                latency().updateNanos(System.nanoTime() - startNanos);
             } catch (TypeDBClientException exception) {
                 alive = false;
             }
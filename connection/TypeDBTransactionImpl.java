@@ -30,13 +30,19 @@ import com.vaticle.typedb.client.api.query.QueryFuture;
 import com.vaticle.typedb.client.api.query.QueryManager;
 import com.vaticle.typedb.client.common.exception.TypeDBClientException;
 import com.vaticle.typedb.client.concept.ConceptManagerImpl;
+import com.vaticle.typedb.client.concept.type.TypeRegistry;
 import com.vaticle.typedb.client.logic.LogicManagerImpl;
+import com.vaticle.typedb.client.logic.RuleRegistry;
 import com.vaticle.typedb.client.query.QueryManagerImpl;
 import com.vaticle.typedb.client.stream.BidirectionalStream;
 import com.vaticle.typedb.protocol.TransactionProto.Transaction.Req;
 import com.vaticle.typedb.protocol.TransactionProto.Transaction.Res;
 import com.vaticle.typedb.protocol.TransactionProto.Transaction.ResPart;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
 import java.util.stream.Stream;
 
 import static com.vaticle.typedb.client.common.exception.ErrorMessage.Client.TRANSACTION_CLOSED;
@@ -46,20 +52,28 @@ import static com.vaticle.typedb.client.common.rpc.RequestBuilder.Transaction.ro
 
 public class TypeDBTransactionImpl implements TypeDBTransaction.Extended {
 
+    private final TypeDBSessionImpl session;
     private final TypeDBTransaction.Type type;
     private final TypeDBOptions options;
-    private final ConceptManager conceptMgr;
-    private final LogicManager logicMgr;
+    private final ConceptManagerImpl conceptMgr;
+    private final LogicManagerImpl logicMgr;
     private final QueryManager queryMgr;
+    private final NeighbourhoodCache neighbourhoodCache;
 
     private final BidirectionalStream bidirectionalStream;
 
     TypeDBTransactionImpl(TypeDBSessionImpl session, ByteString sessionId, Type type, TypeDBOptions options) {
+        this.session = session;
         this.type = type;
         this.options = options;
         conceptMgr = new ConceptManagerImpl(this);
-        logicMgr = new LogicManagerImpl(this);
+        logicMgr = new LogicManagerImpl(this, session.ruleCache());
         queryMgr = new QueryManagerImpl(this);
+        // Data read through a READ transaction cannot change, so its answers never need invalidating
+        neighbourhoodCache = type.isRead() && options.neighbourhoodCacheSize().isPresent()
+                ? new NeighbourhoodCache(options.neighbourhoodCacheSize().get(),
+                                         options.neighbourhoodCacheAnswers().orElse(NeighbourhoodCache.DEFAULT_MAX_ANSWERS))
+                : null;
         bidirectionalStream = new BidirectionalStream(session.stub(), session.transmitter());
         execute(openReq(sessionId, type.proto(), options.proto(), session.networkLatencyMillis()), false);
     }
@@ -68,7 +82,10 @@ public class TypeDBTransactionImpl implements TypeDBTransaction.Extended {
     public Type type() { return type; }
 
     @Override
-    public TypeDBOptions options() { return options; }
+    public TypeDBOptions options() {
+        // Transactions opened without options share the frozen defaults, so callers are given a mutable copy of them
+        return options.isFrozen() ? options.copy() : options;
+    }
 
     @Override
     public boolean isOpen() { return bidirectionalStream.isOpen(); }
@@ -98,6 +115,7 @@ public class TypeDBTransactionImpl implements TypeDBTransaction.Extended {
 
     private QueryFuture<Res> query(Req.Builder request, boolean batch) {
         if (!isOpen()) throw new TypeDBClientException(TRANSACTION_CLOSED);
+        onDispatch(request);
         BidirectionalStream.Single<Res> single = bidirectionalStream.single(request, batch);
         return single::get;
     }
@@ -105,13 +123,71 @@ public class TypeDBTransactionImpl implements TypeDBTransaction.Extended {
     @Override
     public Stream<ResPart> stream(Req.Builder request) {
         if (!isOpen()) throw new TypeDBClientException(TRANSACTION_CLOSED);
-        return bidirectionalStream.stream(request);
+        onDispatch(request);
+        if (neighbourhoodCache == null || !NeighbourhoodCache.isCacheable(request)) return bidirectionalStream.stream(request);
+        Stream<ResPart> cached = neighbourhoodCache.get(request);
+        if (cached != null) return cached;
+        return neighbourhoodCache.record(request, bidirectionalStream.stream(request));
+    }
+
+    @Override
+    public List<QueryFuture<Res>> queryAll(List<Req.Builder> requests) {
+        if (!isOpen()) throw new TypeDBClientException(TRANSACTION_CLOSED);
+        requests.forEach(this::onDispatch);
+        List<QueryFuture<Res>> futures = new ArrayList<>(requests.size());
+        for (BidirectionalStream.Single<Res> single : bidirectionalStream.singles(requests)) futures.add(single::get);
+        return futures;
+    }
+
+    @Override
+    public List<Stream<ResPart>> streamAll(List<Req.Builder> requests) {
+        if (!isOpen()) throw new TypeDBClientException(TRANSACTION_CLOSED);
+        requests.forEach(this::onDispatch);
+        if (neighbourhoodCache == null) return bidirectionalStream.streams(requests);
+        List<Stream<ResPart>> streams = new ArrayList<>(Collections.nCopies(requests.size(), null));
+        List<Req.Builder> uncached = new ArrayList<>();
+        List<Integer> uncachedIndices = new ArrayList<>();
+        for (int i = 0; i < requests.size(); i++) {
+            Req.Builder request = requests.get(i);
+            Stream<ResPart> cached = NeighbourhoodCache.isCacheable(request) ? neighbourhoodCache.get(request) : null;
+            if (cached != null) {
+                streams.set(i, cached);
+            } else {
+                uncached.add(request);
+                uncachedIndices.add(i);
+            }
+        }
+        if (uncached.isEmpty()) return streams;
+        List<Stream<ResPart>> fetched = bidirectionalStream.streams(uncached);
+        for (int i = 0; i < uncached.size(); i++) {
+            Req.Builder request = uncached.get(i);
+            Stream<ResPart> stream = fetched.get(i);
+            if (NeighbourhoodCache.isCacheable(request)) stream = neighbourhoodCache.record(request, stream);
+            streams.set(uncachedIndices.get(i), stream);
+        }
+        return streams;
+    }
+
+    @Override
+    public Optional<NeighbourhoodCache> neighbourhoodCache() {
+        return Optional.ofNullable(neighbourhoodCache);
+    }
+
+    private void onDispatch(Req.Builder request) {
+        if (!session.type().isSchema()) return;
+        if (ConceptManagerImpl.changesTypeLabels(request)) conceptMgr.invalidateTypes();
+        if (LogicManagerImpl.changesRules(request)) logicMgr.invalidateRules();
     }
 
     @Override
     public void commit() {
         try {
             execute(commitReq());
+            if (session.type().isSchema()) {
+                session.database().invalidateSchema();
+                TypeRegistry.invalidate();
+                RuleRegistry.invalidate();
+            }
         } finally {
             close();
         }
@@ -22,6 +22,7 @@
 package com.vaticle.typedb.client.connection.cluster;
 
 import com.vaticle.typedb.client.api.connection.TypeDBClient;
+import com.vaticle.typedb.client.api.connection.TypeDBConnectionOptions;
 import com.vaticle.typedb.client.api.connection.TypeDBCredential;
 import com.vaticle.typedb.client.api.connection.TypeDBOptions;
 import com.vaticle.typedb.client.api.connection.TypeDBSession;
@@ -29,11 +30,13 @@ import com.vaticle.typedb.client.api.connection.user.UserManager;
 import com.vaticle.typedb.client.common.exception.TypeDBClientException;
 import com.vaticle.typedb.common.collection.Pair;
 import com.vaticle.typedb.protocol.ClusterServerProto;
+import io.grpc.Deadline;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 
@@ -41,6 +44,7 @@ import static com.vaticle.typedb.client.common.exception.ErrorMessage.Client.CLU
 import static com.vaticle.typedb.client.common.exception.ErrorMessage.Client.UNABLE_TO_CONNECT;
 import static com.vaticle.typedb.client.common.rpc.RequestBuilder.Cluster.ServerManager.allReq;
 import static com.vaticle.typedb.common.collection.Collections.pair;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static java.util.stream.Collectors.toMap;
 import static java.util.stream.Collectors.toSet;
 
@@ -50,6 +54,7 @@ public class ClusterClient implements TypeDBClient.Cluster {
 
     private final TypeDBCredential credential;
     private final int parallelisation;
+    private final TypeDBConnectionOptions options;
     private final Map<String, ClusterServerClient> clusterServerClients;
     private final Map<String, ClusterServerStub> stubs;
     private final ClusterUserManager userMgr;
@@ -57,12 +62,16 @@ public class ClusterClient implements TypeDBClient.Cluster {
     private final ConcurrentMap<String, ClusterDatabase> clusterDatabases;
     private boolean isOpen;
 
-    private ClusterClient(Set<String> addresses, TypeDBCredential credential, int parallelisation) {
+    private ClusterClient(Set<String> addresses, TypeDBCredential credential, int parallelisation, TypeDBConnectionOptions options) {
         this.credential = credential;
         this.parallelisation = parallelisation;
+        this.options = options;
         clusterServerClients = fetchServerAddresses(addresses).stream()
-                .map(address -> pair(address, ClusterServerClient.create(address, credential, parallelisation)))
+                .map(address -> pair(address, ClusterServerClient.create(address, credential, parallelisation, options)))
                 .collect(toMap(Pair::first, Pair::second));
+        if (options.warmUpTimeoutMillis().isPresent()) {
+            warmUp(Deadline.after(options.warmUpTimeoutMillis().get(), MILLISECONDS));
+        }
         stubs = clusterServerClients.entrySet().stream()
                 .map(client -> pair(client.getKey(), ClusterServerStub.create(credential.username(), credential.password(), client.getValue().channel())))
                 .collect(toMap(Pair::first, Pair::second));
@@ -73,16 +82,37 @@ public class ClusterClient implements TypeDBClient.Cluster {
     }
 
     public static Cluster create(Set<String> addresses, TypeDBCredential credential) {
-        return new ClusterClient(addresses, credential, ClusterServerClient.calculateParallelisation());
+        return create(addresses, credential, ClusterServerClient.calculateParallelisation());
     }
 
     public static Cluster create(Set<String> addresses, TypeDBCredential credential, int parallelisation) {
-        return new ClusterClient(addresses, credential, parallelisation);
+        return create(addresses, credential, parallelisation, TypeDBConnectionOptions.defaults());
+    }
+
+    public static Cluster create(Set<String> addresses, TypeDBCredential credential, TypeDBConnectionOptions options) {
+        return create(addresses, credential, ClusterServerClient.calculateParallelisation(), options);
+    }
+
+    public static Cluster create(Set<String> addresses, TypeDBCredential credential, int parallelisation, TypeDBConnectionOptions options) {
+        return new ClusterClient(addresses, credential, parallelisation, options);
+    }
+
+    private void warmUp(Deadline deadline) {
+        // Every server started connecting when its client was created, so they all share one deadline
+        boolean anyConnected = false;
+        for (Map.Entry<String, ClusterServerClient> entry : clusterServerClients.entrySet()) {
+            if (entry.getValue().awaitConnected(deadline)) anyConnected = true;
+            else LOG.warn("Unable to connect to cluster server {} before the warm-up deadline.", entry.getKey());
+        }
+        if (!anyConnected) {
+            close();
+            throw new TypeDBClientException(CLUSTER_UNABLE_TO_CONNECT, String.join(",", clusterServerClients.keySet()));
+        }
     }
 
     private Set<String> fetchServerAddresses(Set<String> addresses) {
         for (String address : addresses) {
-            try (ClusterServerClient client = ClusterServerClient.create(address, credential, parallelisation)) {
+            try (ClusterServerClient client = ClusterServerClient.create(address, credential, parallelisation, options)) {
                 LOG.debug("Fetching list of cluster servers from {}...", address);
                 ClusterServerStub stub = ClusterServerStub.create(credential.username(), credential.password(), client.channel());
                 ClusterServerProto.ServerManager.All.Res res = stub.serversAll(allReq());
@@ -117,7 +147,7 @@ public class ClusterClient implements TypeDBClient.Cluster {
 
     @Override
     public ClusterSession session(String database, TypeDBSession.Type type) {
-        return session(database, type, TypeDBOptions.cluster());
+        return session(database, type, TypeDBOptions.clusterDefaults());
     }
 
     @Override
@@ -181,7 +211,13 @@ public class ClusterClient implements TypeDBClient.Cluster {
 
     @Override
     public void close() {
-        clusterServerClients.values().forEach(ClusterServerClient::close);
+        closeAsync().join();
+    }
+
+    @Override
+    public CompletableFuture<Void> closeAsync() {
         isOpen = false;
+        return CompletableFuture.allOf(clusterServerClients.values().stream()
+                                               .map(ClusterServerClient::closeAsync).toArray(CompletableFuture<?>[]::new));
     }
 }
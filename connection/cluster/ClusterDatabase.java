@@ -55,7 +55,7 @@ class ClusterDatabase implements Database.Cluster {
         ClusterDatabaseManager clusterDbMgr = client.databases();
         for (String address : clusterDbMgr.databaseMgrs().keySet()) {
             TypeDBDatabaseManagerImpl coreDatabaseMgr = clusterDbMgr.databaseMgrs().get(address);
-            databases.put(address, new TypeDBDatabaseImpl(coreDatabaseMgr, database));
+            databases.put(address, coreDatabaseMgr.register(database));
         }
     }
 
@@ -77,8 +77,21 @@ class ClusterDatabase implements Database.Cluster {
 
     @Override
     public String schema() {
-        // TODO: select the leader database
-        return databases.values().iterator().next().schema();
+        // Schema commits go through the primary replica and invalidate its handle, so only its cached text is current
+        FailsafeTask<String> failsafeTask = new FailsafeTask<String>(client, name) {
+            @Override
+            String run(Replica replica) {
+                return databases.get(replica.address()).schema();
+            }
+
+            @Override
+            String rerun(Replica replica) {
+                // The new primary's handle may have cached its text while another replica took the commits
+                databases.get(replica.address()).invalidateSchema();
+                return run(replica);
+            }
+        };
+        return failsafeTask.runPrimaryReplica();
     }
 
     @Override
@@ -97,6 +110,7 @@ class ClusterDatabase implements Database.Cluster {
             }
         };
         failsafeTask.runPrimaryReplica();
+        client.databases().invalidate(name);
     }
 
     @Override
@@ -94,6 +94,12 @@ public class ClusterDatabaseManager implements DatabaseManager.Cluster {
         throw new TypeDBClientException(CLUSTER_ALL_NODES_FAILED, errors.toString());
     }
 
+    @Override
+    public void invalidate(String name) {
+        databaseMgrs.values().forEach(databaseMgr -> databaseMgr.invalidate(name));
+        client.databaseByName().remove(name);
+    }
+
     Map<String, TypeDBDatabaseManagerImpl> databaseMgrs() {
         return databaseMgrs;
     }
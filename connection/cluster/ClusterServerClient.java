@@ -21,17 +21,18 @@
 
 package com.vaticle.typedb.client.connection.cluster;
 
+import com.vaticle.typedb.client.api.connection.TypeDBConnectionOptions;
 import com.vaticle.typedb.client.api.connection.TypeDBCredential;
 import com.vaticle.typedb.client.connection.TypeDBClientImpl;
 
 class ClusterServerClient extends TypeDBClientImpl {
 
-    private ClusterServerClient(String address, TypeDBCredential credential, int parallelisation) {
-        super(address, new ClusterServerConnectionFactory(credential), parallelisation);
+    private ClusterServerClient(String address, TypeDBCredential credential, int parallelisation, TypeDBConnectionOptions options) {
+        super(address, new ClusterServerConnectionFactory(credential, options), parallelisation);
     }
 
-    static ClusterServerClient create(String address, TypeDBCredential credential, int parallelisation) {
-        return new ClusterServerClient(address, credential, parallelisation);
+    static ClusterServerClient create(String address, TypeDBCredential credential, int parallelisation, TypeDBConnectionOptions options) {
+        return new ClusterServerClient(address, credential, parallelisation, options);
     }
 
 }
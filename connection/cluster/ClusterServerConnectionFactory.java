@@ -21,6 +21,7 @@
 
 package com.vaticle.typedb.client.connection.cluster;
 
+import com.vaticle.typedb.client.api.connection.TypeDBConnectionOptions;
 import com.vaticle.typedb.client.api.connection.TypeDBCredential;
 import com.vaticle.typedb.client.common.exception.TypeDBClientException;
 import com.vaticle.typedb.client.connection.TypeDBConnectionFactory;
@@ -35,7 +36,8 @@ public class ClusterServerConnectionFactory extends TypeDBConnectionFactory {
 
     private TypeDBCredential credential;
 
-    public ClusterServerConnectionFactory(TypeDBCredential credential) {
+    public ClusterServerConnectionFactory(TypeDBCredential credential, TypeDBConnectionOptions options) {
+        super(options);
         this.credential = credential;
     }
 
@@ -61,7 +63,7 @@ public class ClusterServerConnectionFactory extends TypeDBConnectionFactory {
             } else {
                 sslContext = GrpcSslContexts.forClient().build();
             }
-            return NettyChannelBuilder.forTarget(address).useTransportSecurity().sslContext(sslContext).build();
+            return withKeepAlive(NettyChannelBuilder.forTarget(address).useTransportSecurity().sslContext(sslContext)).build();
         } catch (SSLException e) {
             throw new TypeDBClientException(e.getMessage(), e);
         }
@@ -21,6 +21,7 @@
 
 package com.vaticle.typedb.client.connection.cluster;
 
+import com.vaticle.typedb.client.api.concept.SchemaSnapshot;
 import com.vaticle.typedb.client.api.connection.TypeDBOptions;
 import com.vaticle.typedb.client.api.connection.TypeDBSession;
 import com.vaticle.typedb.client.api.connection.TypeDBTransaction;
@@ -29,6 +30,8 @@ import com.vaticle.typedb.client.connection.TypeDBSessionImpl;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.Duration;
+
 public class ClusterSession implements TypeDBSession {
 
     private static final Logger LOG = LoggerFactory.getLogger(TypeDBSession.class);
@@ -45,9 +48,14 @@ public class ClusterSession implements TypeDBSession {
         this.options = options;
     }
 
+    @Override
+    public SchemaSnapshot schemaSnapshot() {
+        return typeDBSession.schemaSnapshot();
+    }
+
     @Override
     public TypeDBTransaction transaction(TypeDBTransaction.Type type) {
-        return transaction(type, TypeDBOptions.cluster());
+        return transaction(type, TypeDBOptions.clusterDefaults());
     }
 
     @Override
@@ -80,7 +88,7 @@ public class ClusterSession implements TypeDBSession {
             TypeDBTransaction rerun(ClusterDatabase.Replica replica) {
                 if (typeDBSession != null) typeDBSession.close();
                 clusterServerClient = clusterClient.clusterServerClient(replica.address());
-                typeDBSession = clusterServerClient.session(database().name(), ClusterSession.this.type(), ClusterSession.this.options());
+                typeDBSession = clusterServerClient.session(database().name(), ClusterSession.this.type(), ClusterSession.this.options);
                 return typeDBSession.transaction(type, options);
             }
         };
@@ -93,7 +101,7 @@ public class ClusterSession implements TypeDBSession {
 
     @Override
     public TypeDBOptions.Cluster options() {
-        return options;
+        return options.isFrozen() ? options.copy() : options;
     }
 
     @Override
@@ -101,6 +109,11 @@ public class ClusterSession implements TypeDBSession {
         return typeDBSession.isOpen();
     }
 
+    @Override
+    public Duration networkLatency() {
+        return typeDBSession.networkLatency();
+    }
+
     @Override
     public void close() {
         typeDBSession.close();
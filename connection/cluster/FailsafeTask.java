@@ -27,6 +27,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 
 import static com.vaticle.typedb.client.common.exception.ErrorMessage.Client.CLUSTER_REPLICA_NOT_PRIMARY;
@@ -82,12 +83,15 @@ abstract class FailsafeTask<RESULT> {
         ClusterDatabase clusterDatabase = client.databaseByName().get(database);
         if (clusterDatabase == null) clusterDatabase = fetchDatabaseReplicas();
 
-        // Try the preferred secondary replica first, then go through the others
+        // Try the preferred secondary replica first, then go through the others from the nearest to the furthest
         List<ClusterDatabase.Replica> replicas = new ArrayList<>();
+        List<ClusterDatabase.Replica> others = new ArrayList<>();
         replicas.add(clusterDatabase.preferredReplica());
         for (ClusterDatabase.Replica replica : clusterDatabase.replicas()) {
-            if (!replica.isPreferred()) replicas.add(replica);
+            if (!replica.isPreferred()) others.add(replica);
         }
+        others.sort(Comparator.comparingInt(this::networkLatencyMillis));
+        replicas.addAll(others);
 
         int retries = 0;
         for (ClusterDatabase.Replica replica : replicas) {
@@ -106,6 +110,12 @@ abstract class FailsafeTask<RESULT> {
         throw clusterNotAvailableException();
     }
 
+    private int networkLatencyMillis(ClusterDatabase.Replica replica) {
+        ClusterServerClient serverClient = client.clusterServerClient(replica.address());
+        if (serverClient == null || !serverClient.networkLatency().hasSamples()) return Integer.MAX_VALUE;
+        else return serverClient.networkLatency().smoothedMillis();
+    }
+
     private ClusterDatabase.Replica seekPrimaryReplica() {
         int retries = 0;
         while (retries < FETCH_REPLICAS_MAX_RETRIES) {
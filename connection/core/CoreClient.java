@@ -21,13 +21,28 @@
 
 package com.vaticle.typedb.client.connection.core;
 
+import com.vaticle.typedb.client.api.connection.TypeDBConnectionOptions;
+import com.vaticle.typedb.client.common.exception.TypeDBClientException;
 import com.vaticle.typedb.client.connection.TypeDBClientImpl;
-import com.vaticle.typedb.client.connection.TypeDBConnectionFactory;
+import io.grpc.Deadline;
+
+import static com.vaticle.typedb.client.common.exception.ErrorMessage.Client.UNABLE_TO_CONNECT;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 
 public class CoreClient extends TypeDBClientImpl {
 
     public CoreClient(String address, int parallelisation) {
-        super(address, new CoreConnectionFactory(), parallelisation);
+        this(address, parallelisation, TypeDBConnectionOptions.defaults());
+    }
+
+    public CoreClient(String address, int parallelisation, TypeDBConnectionOptions options) {
+        super(address, new CoreConnectionFactory(options), parallelisation);
+        if (options.warmUpTimeoutMillis().isPresent()) {
+            if (!awaitConnected(Deadline.after(options.warmUpTimeoutMillis().get(), MILLISECONDS))) {
+                close();
+                throw new TypeDBClientException(UNABLE_TO_CONNECT);
+            }
+        }
     }
 
     public static CoreClient create(String address) {
@@ -37,4 +52,12 @@ public class CoreClient extends TypeDBClientImpl {
     public static CoreClient create(String address, int parallelisation) {
         return new CoreClient(address, parallelisation);
     }
+
+    public static CoreClient create(String address, TypeDBConnectionOptions options) {
+        return new CoreClient(address, calculateParallelisation(), options);
+    }
+
+    public static CoreClient create(String address, int parallelisation, TypeDBConnectionOptions options) {
+        return new CoreClient(address, parallelisation, options);
+    }
 }
@@ -21,12 +21,17 @@
 
 package com.vaticle.typedb.client.connection.core;
 
+import com.vaticle.typedb.client.api.connection.TypeDBConnectionOptions;
 import com.vaticle.typedb.client.common.rpc.TypeDBStub;
 import com.vaticle.typedb.client.connection.TypeDBConnectionFactory;
 import io.grpc.ManagedChannel;
 
 public class CoreConnectionFactory extends TypeDBConnectionFactory {
 
+    public CoreConnectionFactory(TypeDBConnectionOptions options) {
+        super(options);
+    }
+
     @Override
     public ManagedChannel newManagedChannel(String address) {
         return plainTextChannel(address);
@@ -46,6 +46,9 @@ artifacts = [
   "io.netty:netty-resolver",
   "javax.annotation:javax.annotation-api",
   "junit:junit",
+  "org.apache.arrow:arrow-memory-core",
+  "org.apache.arrow:arrow-memory-unsafe",
+  "org.apache.arrow:arrow-vector",
   "org.hamcrest:hamcrest-all",
   "org.hamcrest:hamcrest-core",
   "org.hamcrest:hamcrest-library",
@@ -70,4 +73,7 @@ overrides = {
     "io.netty:netty-common": "4.1.38.Final",
     "io.netty:netty-transport": "4.1.38.Final",
     "io.netty:netty-resolver": "4.1.38.Final",
+    "org.apache.arrow:arrow-memory-core": "4.0.1",
+    "org.apache.arrow:arrow-memory-unsafe": "4.0.1",
+    "org.apache.arrow:arrow-vector": "4.0.1",
 }
@@ -29,6 +29,7 @@ import com.vaticle.typedb.protocol.TransactionProto;
 import com.vaticle.typeql.lang.pattern.Pattern;
 
 import javax.annotation.Nullable;
+import java.util.Map;
 import java.util.stream.Stream;
 
 import static com.vaticle.typedb.client.common.rpc.RequestBuilder.LogicManager.getRuleReq;
@@ -38,14 +39,58 @@ import static com.vaticle.typedb.client.common.rpc.RequestBuilder.LogicManager.p
 public final class LogicManagerImpl implements LogicManager {
 
     private final TypeDBTransaction.Extended transactionRPC;
+    private final RuleCache ruleCache;
+    private final long ruleCacheVersion;
+    private volatile Map<String, RuleImpl> rules;
+    private volatile boolean rulesChanged;
 
-    public LogicManagerImpl(TypeDBTransaction.Extended transactionRPC) {
+    public LogicManagerImpl(TypeDBTransaction.Extended transactionRPC, RuleCache ruleCache) {
         this.transactionRPC = transactionRPC;
+        this.ruleCache = ruleCache;
+        this.ruleCacheVersion = ruleCache.version();
+        this.rulesChanged = false;
+    }
+
+    public static boolean changesRules(TransactionProto.Transaction.Req.Builder request) {
+        switch (request.getReqCase()) {
+            case LOGIC_MANAGER_REQ:
+                return request.getLogicManagerReq().getReqCase() == LogicProto.LogicManager.Req.ReqCase.PUT_RULE_REQ;
+            case RULE_REQ:
+                return true;
+            case QUERY_MANAGER_REQ:
+                switch (request.getQueryManagerReq().getReqCase()) {
+                    case DEFINE_REQ:
+                    case UNDEFINE_REQ:
+                        return true;
+                    default:
+                        return false;
+                }
+            case ROLLBACK_REQ:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public void invalidateRules() {
+        // Uncommitted rule changes are only visible to this transaction, so it stops using the shared cache
+        rulesChanged = true;
+        rules = null;
+    }
+
+    private Map<String, RuleImpl> rules() {
+        Map<String, RuleImpl> cached = rules;
+        if (cached == null) {
+            cached = ruleCache.rules(ruleCacheVersion, this::fetchRules);
+            rules = cached;
+        }
+        return cached;
     }
 
     @Override
     @Nullable
     public Rule getRule(String label) {
+        if (!rulesChanged) return rules().get(label);
         LogicProto.LogicManager.GetRule.Res res = execute(getRuleReq(label)).getGetRuleRes();
         switch (res.getResCase()) {
             case RULE:
@@ -58,6 +103,11 @@ public final class LogicManagerImpl implements LogicManager {
 
     @Override
     public Stream<RuleImpl> getRules() {
+        if (!rulesChanged) return rules().values().stream();
+        return fetchRules();
+    }
+
+    private Stream<RuleImpl> fetchRules() {
         return stream(getRulesReq()).flatMap(res -> res.getGetRulesResPart().getRulesList().stream()).map(RuleImpl::of);
     }
 
@@ -0,0 +1,63 @@
+/*
+ * Copyright (C) 2021 Vaticle
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.vaticle.typedb.client.logic;
+
+import com.vaticle.typedb.client.common.collection.CachedValue;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static java.util.Collections.unmodifiableMap;
+
+public class RuleCache {
+
+    private final long ttlNanos;
+    private final LongSupplier schemaVersion;
+    private final AtomicReference<CachedValue<Map<String, RuleImpl>>> rules;
+
+    public RuleCache(long ttlNanos, LongSupplier schemaVersion) {
+        this.ttlNanos = ttlNanos;
+        this.schemaVersion = schemaVersion;
+        this.rules = new AtomicReference<>(CachedValue.invalid());
+    }
+
+    long version() {
+        return schemaVersion.getAsLong();
+    }
+
+    Map<String, RuleImpl> rules(long version, Supplier<Stream<RuleImpl>> loader) {
+        CachedValue<Map<String, RuleImpl>> cached = rules.get();
+        if (cached.isValid(version)) return cached.value();
+        Map<String, RuleImpl> fetched = new LinkedHashMap<>();
+        loader.get().forEach(rule -> fetched.put(rule.getLabel(), rule));
+        Map<String, RuleImpl> loaded = unmodifiableMap(fetched);
+        // Rules loaded by a transaction that predates the latest schema commit are not cached for newer transactions
+        if (schemaVersion.getAsLong() == version) {
+            rules.compareAndSet(cached, CachedValue.of(loaded, version, ttlNanos));
+        }
+        return loaded;
+    }
+}
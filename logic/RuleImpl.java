@@ -54,11 +54,11 @@ public class RuleImpl implements Rule {
     }
 
     public static RuleImpl of(LogicProto.Rule ruleProto) {
-        return new RuleImpl(
-                ruleProto.getLabel(),
-                TypeQL.parsePattern(ruleProto.getWhen()).asConjunction(),
-                TypeQL.parseVariable(ruleProto.getThen()).asThing()
-        );
+        return RuleRegistry.intern(ruleProto, proto -> new RuleImpl(
+                proto.getLabel(),
+                TypeQL.parsePattern(proto.getWhen()).asConjunction(),
+                TypeQL.parseVariable(proto.getThen()).asThing()
+        ));
     }
 
     @Override
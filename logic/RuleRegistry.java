@@ -0,0 +1,41 @@
+/*
+ * Copyright (C) 2021 Vaticle
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.vaticle.typedb.client.logic;
+
+import com.vaticle.typedb.client.common.collection.BoundedInterner;
+import com.vaticle.typedb.protocol.LogicProto;
+
+import java.util.function.Function;
+
+public class RuleRegistry {
+
+    // Parsing the patterns dominates rule decoding, and explanations carry the same few rules over and over
+    private static final BoundedInterner<LogicProto.Rule, RuleImpl> rules = new BoundedInterner<>(10_000);
+
+    static RuleImpl intern(LogicProto.Rule ruleProto, Function<LogicProto.Rule, RuleImpl> constructor) {
+        return rules.intern(ruleProto, () -> constructor.apply(ruleProto));
+    }
+
+    public static void invalidate() {
+        rules.clear();
+    }
+}
@@ -0,0 +1,197 @@
+/*
+ * Copyright (C) 2021 Vaticle
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.vaticle.typedb.client.query;
+
+import com.vaticle.typedb.client.api.answer.AnswerCursor;
+import com.vaticle.typedb.client.api.answer.ConceptMap;
+import com.vaticle.typedb.client.api.concept.thing.Attribute;
+import com.vaticle.typedb.client.api.concept.thing.Entity;
+import com.vaticle.typedb.client.api.concept.thing.Relation;
+import com.vaticle.typedb.client.api.concept.thing.Thing;
+import com.vaticle.typedb.client.api.concept.type.AttributeType;
+import com.vaticle.typedb.client.api.concept.type.EntityType;
+import com.vaticle.typedb.client.api.concept.type.RelationType;
+import com.vaticle.typedb.client.api.concept.type.RoleType;
+import com.vaticle.typedb.client.api.concept.type.ThingType;
+import com.vaticle.typedb.client.common.exception.TypeDBClientException;
+import com.vaticle.typedb.client.concept.answer.ConceptMapImpl;
+import com.vaticle.typedb.protocol.AnswerProto;
+import com.vaticle.typedb.protocol.ConceptProto;
+import com.vaticle.typedb.protocol.QueryProto;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+import static com.vaticle.typedb.client.common.exception.ErrorMessage.Concept.INVALID_CONCEPT_CASTING;
+import static com.vaticle.typedb.client.common.exception.ErrorMessage.Internal.ILLEGAL_STATE;
+import static com.vaticle.typedb.client.common.exception.ErrorMessage.Query.VARIABLE_DOES_NOT_EXIST;
+import static com.vaticle.typedb.common.collection.Bytes.bytesToHexString;
+import static com.vaticle.typedb.common.util.Objects.className;
+
+class AnswerCursorImpl implements AnswerCursor {
+
+    private final Iterator<QueryProto.QueryManager.ResPart> parts;
+    private List<AnswerProto.ConceptMap> answers;
+    private int index;
+    private AnswerProto.ConceptMap current;
+
+    AnswerCursorImpl(Iterator<QueryProto.QueryManager.ResPart> parts) {
+        this.parts = parts;
+        this.answers = Collections.emptyList();
+        this.index = -1;
+        this.current = null;
+    }
+
+    @Override
+    public boolean next() {
+        index++;
+        while (index >= answers.size()) {
+            if (!parts.hasNext()) {
+                current = null;
+                return false;
+            }
+            answers = parts.next().getMatchResPart().getAnswersList();
+            index = 0;
+        }
+        current = answers.get(index);
+        return true;
+    }
+
+    @Override
+    public boolean has(String variable) {
+        return current().containsMap(variable);
+    }
+
+    @Override
+    public long getLong(String variable) {
+        return attribute(variable, ConceptProto.AttributeType.ValueType.LONG).getLong();
+    }
+
+    @Override
+    public double getDouble(String variable) {
+        return attribute(variable, ConceptProto.AttributeType.ValueType.DOUBLE).getDouble();
+    }
+
+    @Override
+    public boolean getBoolean(String variable) {
+        return attribute(variable, ConceptProto.AttributeType.ValueType.BOOLEAN).getBoolean();
+    }
+
+    @Override
+    public String getString(String variable) {
+        return attribute(variable, ConceptProto.AttributeType.ValueType.STRING).getString();
+    }
+
+    @Override
+    public long getDateTimeMillis(String variable) {
+        return attribute(variable, ConceptProto.AttributeType.ValueType.DATETIME).getDateTime();
+    }
+
+    @Override
+    public String getIID(String variable) {
+        ConceptProto.Concept concept = concept(variable);
+        if (!concept.hasThing()) {
+            throw new TypeDBClientException(INVALID_CONCEPT_CASTING, className(conceptClass(concept)), className(Thing.class));
+        }
+        return bytesToHexString(concept.getThing().getIid().toByteArray());
+    }
+
+    @Override
+    public String getLabel(String variable) {
+        ConceptProto.Concept concept = concept(variable);
+        ConceptProto.Type type = concept.hasThing() ? concept.getThing().getType() : concept.getType();
+        if (type.getEncoding() == ConceptProto.Type.Encoding.ROLE_TYPE) return type.getScope() + ":" + type.getLabel();
+        else return type.getLabel();
+    }
+
+    @Override
+    public ConceptMap get() {
+        return ConceptMapImpl.of(current());
+    }
+
+    private AnswerProto.ConceptMap current() {
+        if (current == null) throw new TypeDBClientException(ILLEGAL_STATE);
+        return current;
+    }
+
+    private ConceptProto.Concept concept(String variable) {
+        ConceptProto.Concept concept = current().getMapOrDefault(variable, null);
+        if (concept == null) throw new TypeDBClientException(VARIABLE_DOES_NOT_EXIST, variable);
+        return concept;
+    }
+
+    private ConceptProto.Attribute.Value attribute(String variable, ConceptProto.AttributeType.ValueType valueType) {
+        ConceptProto.Concept concept = concept(variable);
+        if (!concept.hasThing() || concept.getThing().getType().getValueType() != valueType
+                || concept.getThing().getType().getEncoding() != ConceptProto.Type.Encoding.ATTRIBUTE_TYPE) {
+            throw new TypeDBClientException(INVALID_CONCEPT_CASTING, className(conceptClass(concept)), className(attributeClass(valueType)));
+        }
+        return concept.getThing().getValue();
+    }
+
+    private static Class<?> conceptClass(ConceptProto.Concept concept) {
+        // The cursor decodes no concepts, so errors name the class that each proto would be decoded to
+        if (concept.hasThing()) {
+            ConceptProto.Type type = concept.getThing().getType();
+            switch (type.getEncoding()) {
+                case ENTITY_TYPE:
+                    return Entity.class;
+                case RELATION_TYPE:
+                    return Relation.class;
+                case ATTRIBUTE_TYPE:
+                    return attributeClass(type.getValueType());
+                default:
+                    return Thing.class;
+            }
+        }
+        switch (concept.getType().getEncoding()) {
+            case ENTITY_TYPE:
+                return EntityType.class;
+            case RELATION_TYPE:
+                return RelationType.class;
+            case ATTRIBUTE_TYPE:
+                return AttributeType.class;
+            case ROLE_TYPE:
+                return RoleType.class;
+            default:
+                return ThingType.class;
+        }
+    }
+
+    private static Class<?> attributeClass(ConceptProto.AttributeType.ValueType valueType) {
+        switch (valueType) {
+            case BOOLEAN:
+                return Attribute.Boolean.class;
+            case LONG:
+                return Attribute.Long.class;
+            case DOUBLE:
+                return Attribute.Double.class;
+            case STRING:
+                return Attribute.String.class;
+            case DATETIME:
+                return Attribute.DateTime.class;
+            default:
+                return Attribute.class;
+        }
+    }
+}
@@ -0,0 +1,216 @@
+/*
+ * Copyright (C) 2021 Vaticle
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.vaticle.typedb.client.query;
+
+import com.google.protobuf.ByteString;
+import com.vaticle.typedb.client.api.query.ExportFormat;
+import com.vaticle.typedb.client.common.exception.TypeDBClientException;
+import com.vaticle.typedb.protocol.AnswerProto;
+import com.vaticle.typedb.protocol.ConceptProto;
+import com.vaticle.typedb.protocol.QueryProto;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static com.vaticle.typedb.client.common.exception.ErrorMessage.Concept.BAD_VALUE_TYPE;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+class AnswerExporter {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final List<String> variables;
+    private final boolean json;
+    private final Writer writer;
+
+    AnswerExporter(List<String> variables, ExportFormat format, OutputStream output) {
+        this.variables = variables;
+        this.json = format == ExportFormat.JSONL;
+        this.writer = new BufferedWriter(new OutputStreamWriter(output, UTF_8), BUFFER_SIZE);
+    }
+
+    long export(Stream<QueryProto.QueryManager.ResPart> parts) {
+        try {
+            if (!json) writeHeader();
+            long rows = 0;
+            Iterator<QueryProto.QueryManager.ResPart> iterator = parts.iterator();
+            while (iterator.hasNext()) {
+                for (AnswerProto.ConceptMap answer : iterator.next().getMatchResPart().getAnswersList()) {
+                    if (json) writeJsonRow(answer);
+                    else writeCsvRow(answer);
+                    rows++;
+                }
+            }
+            // The output belongs to the caller, so it is flushed but left open
+            writer.flush();
+            return rows;
+        } catch (IOException e) {
+            throw new TypeDBClientException(e.getMessage(), e);
+        }
+    }
+
+    private void writeHeader() throws IOException {
+        for (int i = 0; i < variables.size(); i++) {
+            if (i > 0) writer.write(',');
+            writeText(variables.get(i));
+        }
+        writer.write('\n');
+    }
+
+    private void writeCsvRow(AnswerProto.ConceptMap answer) throws IOException {
+        for (int i = 0; i < variables.size(); i++) {
+            if (i > 0) writer.write(',');
+            ConceptProto.Concept concept = answer.getMapOrDefault(variables.get(i), null);
+            if (concept != null) writeConcept(concept);
+        }
+        writer.write('\n');
+    }
+
+    private void writeJsonRow(AnswerProto.ConceptMap answer) throws IOException {
+        writer.write('{');
+        for (int i = 0; i < variables.size(); i++) {
+            if (i > 0) writer.write(',');
+            writeText(variables.get(i));
+            writer.write(':');
+            ConceptProto.Concept concept = answer.getMapOrDefault(variables.get(i), null);
+            if (concept != null) writeConcept(concept);
+            else writer.write("null");
+        }
+        writer.write("}\n");
+    }
+
+    private void writeConcept(ConceptProto.Concept concept) throws IOException {
+        if (concept.hasThing()) {
+            ConceptProto.Thing thing = concept.getThing();
+            if (thing.getType().getEncoding() == ConceptProto.Type.Encoding.ATTRIBUTE_TYPE) writeValue(thing);
+            else writeIID(thing.getIid());
+        } else {
+            ConceptProto.Type type = concept.getType();
+            if (type.getEncoding() == ConceptProto.Type.Encoding.ROLE_TYPE) writeText(type.getScope() + ":" + type.getLabel());
+            else writeText(type.getLabel());
+        }
+    }
+
+    private void writeValue(ConceptProto.Thing attribute) throws IOException {
+        ConceptProto.Attribute.Value value = attribute.getValue();
+        switch (attribute.getType().getValueType()) {
+            case BOOLEAN:
+                writer.write(value.getBoolean() ? "true" : "false");
+                break;
+            case LONG:
+                writer.write(Long.toString(value.getLong()));
+                break;
+            case DOUBLE:
+                // JSON has no literal for NaN or infinity
+                if (json && !Double.isFinite(value.getDouble())) writer.write("null");
+                else writer.write(Double.toString(value.getDouble()));
+                break;
+            case STRING:
+                writeText(value.getString());
+                break;
+            case DATETIME:
+                writeText(LocalDateTime.ofInstant(Instant.ofEpochMilli(value.getDateTime()), ZoneId.of("Z")).toString());
+                break;
+            case UNRECOGNIZED:
+            default:
+                throw new TypeDBClientException(BAD_VALUE_TYPE, attribute.getType().getValueType());
+        }
+    }
+
+    private void writeIID(ByteString iid) throws IOException {
+        if (json) writer.write('"');
+        writer.write("0x");
+        for (int i = 0; i < iid.size(); i++) {
+            int b = iid.byteAt(i) & 0xff;
+            writer.write(HEX[b >>> 4]);
+            writer.write(HEX[b & 0x0f]);
+        }
+        if (json) writer.write('"');
+    }
+
+    private void writeText(String text) throws IOException {
+        if (json) writeJsonString(text);
+        else writeCsvField(text);
+    }
+
+    private void writeCsvField(String text) throws IOException {
+        boolean quote = false;
+        for (int i = 0; i < text.length() && !quote; i++) {
+            char c = text.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote) {
+            writer.write(text);
+            return;
+        }
+        writer.write('"');
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '"') writer.write('"');
+            writer.write(c);
+        }
+        writer.write('"');
+    }
+
+    private void writeJsonString(String text) throws IOException {
+        writer.write('"');
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '"':
+                    writer.write("\\\"");
+                    break;
+                case '\\':
+                    writer.write("\\\\");
+                    break;
+                case '\n':
+                    writer.write("\\n");
+                    break;
+                case '\r':
+                    writer.write("\\r");
+                    break;
+                case '\t':
+                    writer.write("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        writer.write("\\u00");
+                        writer.write(HEX[c >>> 4]);
+                        writer.write(HEX[c & 0x0f]);
+                    } else {
+                        writer.write(c);
+                    }
+            }
+        }
+        writer.write('"');
+    }
+}
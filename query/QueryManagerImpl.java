@@ -23,18 +23,25 @@ package com.vaticle.typedb.client.query;
 
 import com.vaticle.typedb.client.api.connection.TypeDBOptions;
 import com.vaticle.typedb.client.api.connection.TypeDBTransaction;
+import com.vaticle.typedb.client.api.answer.AnswerBatch;
+import com.vaticle.typedb.client.api.answer.AnswerCursor;
 import com.vaticle.typedb.client.api.answer.ConceptMap;
 import com.vaticle.typedb.client.api.answer.ConceptMapGroup;
 import com.vaticle.typedb.client.api.answer.Numeric;
 import com.vaticle.typedb.client.api.answer.NumericGroup;
 import com.vaticle.typedb.client.api.logic.Explanation;
+import com.vaticle.typedb.client.api.query.ExportFormat;
+import com.vaticle.typedb.client.api.query.PreparedQuery;
 import com.vaticle.typedb.client.api.query.QueryFuture;
 import com.vaticle.typedb.client.api.query.QueryManager;
+import com.vaticle.typedb.client.concept.BulkRequests;
+import com.vaticle.typedb.client.concept.answer.AnswerBatchImpl;
 import com.vaticle.typedb.client.concept.answer.ConceptMapGroupImpl;
 import com.vaticle.typedb.client.concept.answer.ConceptMapImpl;
 import com.vaticle.typedb.client.concept.answer.NumericGroupImpl;
 import com.vaticle.typedb.client.concept.answer.NumericImpl;
 import com.vaticle.typedb.client.logic.ExplanationImpl;
+import com.vaticle.typedb.protocol.OptionsProto;
 import com.vaticle.typedb.protocol.QueryProto;
 import com.vaticle.typedb.protocol.TransactionProto;
 import com.vaticle.typeql.lang.query.TypeQLDefine;
@@ -44,6 +51,12 @@ import com.vaticle.typeql.lang.query.TypeQLMatch;
 import com.vaticle.typeql.lang.query.TypeQLUndefine;
 import com.vaticle.typeql.lang.query.TypeQLUpdate;
 
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
 import java.util.stream.Stream;
 
 import static com.vaticle.typedb.client.common.rpc.RequestBuilder.QueryManager.defineReq;
@@ -56,9 +69,13 @@ import static com.vaticle.typedb.client.common.rpc.RequestBuilder.QueryManager.m
 import static com.vaticle.typedb.client.common.rpc.RequestBuilder.QueryManager.matchReq;
 import static com.vaticle.typedb.client.common.rpc.RequestBuilder.QueryManager.undefineReq;
 import static com.vaticle.typedb.client.common.rpc.RequestBuilder.QueryManager.updateReq;
+import static java.util.stream.Collectors.toList;
 
 public final class QueryManagerImpl implements QueryManager {
 
+    // Query groups are split into messages that stay well under the server's inbound message size limit
+    private static final long BULK_BATCH_BYTES = 1_000_000;
+
     private final TypeDBTransaction.Extended transactionExt;
 
     public QueryManagerImpl(TypeDBTransaction.Extended transactionExt) {
@@ -77,7 +94,7 @@ public final class QueryManagerImpl implements QueryManager {
 
     @Override
     public Stream<ConceptMap> match(String query) {
-        return match(query, TypeDBOptions.core());
+        return match(query, TypeDBOptions.coreDefaults());
     }
 
     @Override
@@ -87,6 +104,72 @@ public final class QueryManagerImpl implements QueryManager {
                 .map(ConceptMapImpl::of);
     }
 
+    @Override
+    public Stream<ConceptMap> match(PreparedQuery.Binding query) {
+        return match(query.query());
+    }
+
+    @Override
+    public Stream<ConceptMap> match(PreparedQuery.Binding query, TypeDBOptions options) {
+        return match(query.query(), options);
+    }
+
+    @Override
+    public AnswerCursor matchCursor(String query) {
+        return matchCursor(query, TypeDBOptions.coreDefaults());
+    }
+
+    @Override
+    public AnswerCursor matchCursor(String query, TypeDBOptions options) {
+        return new AnswerCursorImpl(stream(matchReq(query, options.proto())).iterator());
+    }
+
+    @Override
+    public Stream<AnswerBatch> matchBatches(String query) {
+        return matchBatches(query, TypeDBOptions.coreDefaults());
+    }
+
+    @Override
+    public Stream<AnswerBatch> matchBatches(String query, TypeDBOptions options) {
+        return stream(matchReq(query, options.proto()))
+                .map(rp -> AnswerBatchImpl.of(rp.getMatchResPart().getAnswersList()));
+    }
+
+    @Override
+    public List<Stream<ConceptMap>> matchAll(List<String> queries) {
+        return matchAll(queries, TypeDBOptions.coreDefaults());
+    }
+
+    @Override
+    public List<Stream<ConceptMap>> matchAll(List<String> queries, TypeDBOptions options) {
+        OptionsProto.Options optionsProto = options.proto();
+        return streamAll(queries, query -> matchReq(query, optionsProto)).stream()
+                .map(parts -> parts.flatMap(rp -> rp.getMatchResPart().getAnswersList().stream()).map(ConceptMapImpl::of))
+                .collect(toList());
+    }
+
+    @Override
+    public QueryFuture<Long> export(String query, List<String> variables, ExportFormat format, OutputStream output) {
+        return export(query, variables, format, output, TypeDBOptions.coreDefaults());
+    }
+
+    @Override
+    public QueryFuture<Long> export(String query, List<String> variables, ExportFormat format, OutputStream output, TypeDBOptions options) {
+        Stream<QueryProto.QueryManager.ResPart> parts = stream(matchReq(query, options.proto()));
+        AnswerExporter exporter = new AnswerExporter(variables, format, output);
+        return () -> exporter.export(parts);
+    }
+
+    @Override
+    public QueryFuture<Long> export(String query, List<String> variables, ExportFormat format, WritableByteChannel output) {
+        return export(query, variables, format, output, TypeDBOptions.coreDefaults());
+    }
+
+    @Override
+    public QueryFuture<Long> export(String query, List<String> variables, ExportFormat format, WritableByteChannel output, TypeDBOptions options) {
+        return export(query, variables, format, Channels.newOutputStream(output), options);
+    }
+
     @Override
     public QueryFuture<Numeric> match(TypeQLMatch.Aggregate query) {
         return matchAggregate(query.toString());
@@ -99,7 +182,7 @@ public final class QueryManagerImpl implements QueryManager {
 
     @Override
     public QueryFuture<Numeric> matchAggregate(String query) {
-        return matchAggregate(query, TypeDBOptions.core());
+        return matchAggregate(query, TypeDBOptions.coreDefaults());
     }
 
     @Override
@@ -121,7 +204,7 @@ public final class QueryManagerImpl implements QueryManager {
 
     @Override
     public Stream<ConceptMapGroup> matchGroup(String query) {
-        return matchGroup(query, TypeDBOptions.core());
+        return matchGroup(query, TypeDBOptions.coreDefaults());
     }
 
     @Override
@@ -143,7 +226,7 @@ public final class QueryManagerImpl implements QueryManager {
 
     @Override
     public Stream<NumericGroup> matchGroupAggregate(String query) {
-        return matchGroupAggregate(query, TypeDBOptions.core());
+        return matchGroupAggregate(query, TypeDBOptions.coreDefaults());
     }
 
     @Override
@@ -165,7 +248,7 @@ public final class QueryManagerImpl implements QueryManager {
 
     @Override
     public Stream<ConceptMap> insert(String query) {
-        return insert(query, TypeDBOptions.core());
+        return insert(query, TypeDBOptions.coreDefaults());
     }
 
     @Override
@@ -175,6 +258,61 @@ public final class QueryManagerImpl implements QueryManager {
                 .map(ConceptMapImpl::of);
     }
 
+    @Override
+    public Stream<ConceptMap> insert(PreparedQuery.Binding query) {
+        return insert(query.query());
+    }
+
+    @Override
+    public Stream<ConceptMap> insert(PreparedQuery.Binding query, TypeDBOptions options) {
+        return insert(query.query(), options);
+    }
+
+    @Override
+    public QueryFuture<Long> insertCount(TypeQLInsert query) {
+        return insertCount(query.toString());
+    }
+
+    @Override
+    public QueryFuture<Long> insertCount(TypeQLInsert query, TypeDBOptions options) {
+        return insertCount(query.toString(), options);
+    }
+
+    @Override
+    public QueryFuture<Long> insertCount(String query) {
+        return insertCount(query, TypeDBOptions.coreDefaults());
+    }
+
+    @Override
+    public QueryFuture<Long> insertCount(String query, TypeDBOptions options) {
+        // The answers are counted straight off the response parts, without decoding them into concepts
+        Stream<QueryProto.QueryManager.ResPart> parts = stream(insertReq(query, options.proto()));
+        return () -> parts.mapToLong(rp -> rp.getInsertResPart().getAnswersCount()).sum();
+    }
+
+    @Override
+    public QueryFuture<Long> insertCount(PreparedQuery.Binding query) {
+        return insertCount(query.query());
+    }
+
+    @Override
+    public QueryFuture<Long> insertCount(PreparedQuery.Binding query, TypeDBOptions options) {
+        return insertCount(query.query(), options);
+    }
+
+    @Override
+    public List<Stream<ConceptMap>> insertAll(List<String> queries) {
+        return insertAll(queries, TypeDBOptions.coreDefaults());
+    }
+
+    @Override
+    public List<Stream<ConceptMap>> insertAll(List<String> queries, TypeDBOptions options) {
+        OptionsProto.Options optionsProto = options.proto();
+        return streamAll(queries, query -> insertReq(query, optionsProto)).stream()
+                .map(parts -> parts.flatMap(rp -> rp.getInsertResPart().getAnswersList().stream()).map(ConceptMapImpl::of))
+                .collect(toList());
+    }
+
     @Override
     public QueryFuture<Void> delete(TypeQLDelete query) {
         return delete(query.toString());
@@ -187,7 +325,7 @@ public final class QueryManagerImpl implements QueryManager {
 
     @Override
     public QueryFuture<Void> delete(String query) {
-        return delete(query, TypeDBOptions.core());
+        return delete(query, TypeDBOptions.coreDefaults());
     }
 
     @Override
@@ -195,6 +333,34 @@ public final class QueryManagerImpl implements QueryManager {
         return queryVoid(deleteReq(query, options.proto()));
     }
 
+    @Override
+    public QueryFuture<Void> delete(PreparedQuery.Binding query) {
+        return delete(query.query());
+    }
+
+    @Override
+    public QueryFuture<Void> delete(PreparedQuery.Binding query, TypeDBOptions options) {
+        return delete(query.query(), options);
+    }
+
+    @Override
+    public QueryFuture<Void> deleteAll(List<String> queries) {
+        return deleteAll(queries, TypeDBOptions.coreDefaults());
+    }
+
+    @Override
+    public QueryFuture<Void> deleteAll(List<String> queries, TypeDBOptions options) {
+        OptionsProto.Options optionsProto = options.proto();
+        List<QueryFuture<TransactionProto.Transaction.Res>> futures = new ArrayList<>(queries.size());
+        for (List<String> batch : batches(queries)) {
+            futures.addAll(transactionExt.queryAll(batch.stream().map(query -> deleteReq(query, optionsProto)).collect(toList())));
+        }
+        return () -> {
+            futures.forEach(QueryFuture::get);
+            return null;
+        };
+    }
+
     @Override
     public Stream<ConceptMap> update(TypeQLUpdate query) {
         return update(query.toString());
@@ -207,7 +373,7 @@ public final class QueryManagerImpl implements QueryManager {
 
     @Override
     public Stream<ConceptMap> update(String query) {
-        return update(query, TypeDBOptions.core());
+        return update(query, TypeDBOptions.coreDefaults());
     }
 
     @Override
@@ -229,7 +395,7 @@ public final class QueryManagerImpl implements QueryManager {
 
     @Override
     public QueryFuture<Void> define(String query) {
-        return define(query, TypeDBOptions.core());
+        return define(query, TypeDBOptions.coreDefaults());
     }
 
     @Override
@@ -249,7 +415,7 @@ public final class QueryManagerImpl implements QueryManager {
 
     @Override
     public QueryFuture<Void> undefine(String query) {
-        return undefine(query, TypeDBOptions.core());
+        return undefine(query, TypeDBOptions.coreDefaults());
     }
 
     @Override
@@ -259,7 +425,7 @@ public final class QueryManagerImpl implements QueryManager {
 
     @Override
     public Stream<Explanation> explain(ConceptMap.Explainable explainable) {
-        return explain(explainable, TypeDBOptions.core());
+        return explain(explainable, TypeDBOptions.coreDefaults());
     }
 
     @Override
@@ -280,4 +446,32 @@ public final class QueryManagerImpl implements QueryManager {
     private Stream<QueryProto.QueryManager.ResPart> stream(TransactionProto.Transaction.Req.Builder req) {
         return transactionExt.stream(req).map(TransactionProto.Transaction.ResPart::getQueryManagerResPart);
     }
+
+    private List<Stream<QueryProto.QueryManager.ResPart>> streamAll(
+            List<String> queries, Function<String, TransactionProto.Transaction.Req.Builder> toReq) {
+        List<Stream<QueryProto.QueryManager.ResPart>> streams = new ArrayList<>(queries.size());
+        for (List<String> batch : batches(queries)) {
+            transactionExt.streamAll(batch.stream().map(toReq).collect(toList())).forEach(
+                    parts -> streams.add(parts.map(TransactionProto.Transaction.ResPart::getQueryManagerResPart))
+            );
+        }
+        return streams;
+    }
+
+    private static List<List<String>> batches(List<String> queries) {
+        List<List<String>> batches = new ArrayList<>();
+        int start = 0;
+        long batchBytes = 0;
+        for (int i = 0; i < queries.size(); i++) {
+            long queryBytes = BulkRequests.encodedSize(queries.get(i));
+            if (i > start && (i - start == BulkRequests.BATCH_SIZE || batchBytes + queryBytes > BULK_BATCH_BYTES)) {
+                batches.add(queries.subList(start, i));
+                start = i;
+                batchBytes = 0;
+            }
+            batchBytes += queryBytes;
+        }
+        if (start < queries.size()) batches.add(queries.subList(start, queries.size()));
+        return batches;
+    }
 }
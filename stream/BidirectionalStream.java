@@ -32,6 +32,8 @@ import io.grpc.StatusRuntimeException;
 import io.grpc.stub.StreamObserver;
 
 import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Stream;
@@ -77,6 +79,31 @@ public class BidirectionalStream implements AutoCloseable {
         return StreamSupport.stream(spliteratorUnknownSize(iterator, ORDERED | IMMUTABLE), false);
     }
 
+    public List<Single<Res>> singles(List<Req.Builder> requests) {
+        List<Req> reqs = new ArrayList<>(requests.size());
+        List<Single<Res>> singles = new ArrayList<>(requests.size());
+        for (Req.Builder request : requests) {
+            UUID requestID = UUID.randomUUID();
+            singles.add(new Single<>(resCollector.queue(requestID)));
+            reqs.add(request.setReqId(UUIDAsByteString(requestID)).build());
+        }
+        dispatcher.dispatchNow(reqs);
+        return singles;
+    }
+
+    public List<Stream<ResPart>> streams(List<Req.Builder> requests) {
+        List<Req> reqs = new ArrayList<>(requests.size());
+        List<Stream<ResPart>> streams = new ArrayList<>(requests.size());
+        for (Req.Builder request : requests) {
+            UUID requestID = UUID.randomUUID();
+            ResponsePartIterator iterator = new ResponsePartIterator(requestID, resPartCollector.queue(requestID), dispatcher);
+            streams.add(StreamSupport.stream(spliteratorUnknownSize(iterator, ORDERED | IMMUTABLE), false));
+            reqs.add(request.setReqId(UUIDAsByteString(requestID)).build());
+        }
+        dispatcher.dispatchNow(reqs);
+        return streams;
+    }
+
     public boolean isOpen() {
         return isOpen.get();
     }
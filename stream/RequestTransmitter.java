@@ -22,6 +22,7 @@
 package com.vaticle.typedb.client.stream;
 
 import com.vaticle.typedb.client.common.exception.TypeDBClientException;
+import com.vaticle.typedb.client.common.rpc.LatencyEstimator;
 import com.vaticle.typedb.client.common.rpc.RequestBuilder;
 import com.vaticle.typedb.common.collection.ConcurrentSet;
 import com.vaticle.typedb.common.concurrent.NamedThreadFactory;
@@ -31,6 +32,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.ThreadFactory;
@@ -51,10 +53,12 @@ public class RequestTransmitter implements AutoCloseable {
     private final ArrayList<Executor> executors;
     private final AtomicInteger executorIndex;
     private final ReadWriteLock accessLock;
+    private final LatencyEstimator latency;
     private volatile boolean isOpen;
 
-    public RequestTransmitter(int parallelisation, NamedThreadFactory threadFactory) {
+    public RequestTransmitter(int parallelisation, NamedThreadFactory threadFactory, LatencyEstimator latency) {
         this.executors = new ArrayList<>(parallelisation);
+        this.latency = latency;
         this.executorIndex = new AtomicInteger(0);
         this.accessLock = new StampedLock().asReadWriteLock();
         this.isOpen = true;
@@ -69,6 +73,12 @@ public class RequestTransmitter implements AutoCloseable {
         }));
     }
 
+    private int batchWindowLargeMillis() {
+        // Waiting longer than a round trip between batches costs more latency than the batching saves
+        if (!latency.hasSamples()) return BATCH_WINDOW_LARGE_MILLIS;
+        return Math.max(BATCH_WINDOW_SMALL_MILLIS, Math.min(BATCH_WINDOW_LARGE_MILLIS, latency.smoothedMillis()));
+    }
+
     public Dispatcher dispatcher(StreamObserver<TransactionProto.Transaction.Client> requestObserver) {
         try {
             accessLock.readLock().lock();
@@ -118,7 +128,7 @@ public class RequestTransmitter implements AutoCloseable {
                     permissionToRun.acquire();
                     boolean first = true;
                     while (true) {
-                        Thread.sleep(first ? BATCH_WINDOW_SMALL_MILLIS : BATCH_WINDOW_LARGE_MILLIS);
+                        Thread.sleep(first ? BATCH_WINDOW_SMALL_MILLIS : batchWindowLargeMillis());
                         if (dispatchers.isEmpty()) break;
                         else dispatchers.forEach(Dispatcher::sendBatchedRequests);
                         first = false;
@@ -183,6 +193,20 @@ public class RequestTransmitter implements AutoCloseable {
             }
         }
 
+        public void dispatchNow(List<TransactionProto.Transaction.Req> requestProtos) {
+            try {
+                accessLock.readLock().lock();
+                if (!isOpen.get()) throw new TypeDBClientException(TRANSACTION_CLOSED);
+                // Holding the dispatcher lock keeps the executor from sending only part of the group
+                synchronized (this) {
+                    requestQueue.addAll(requestProtos);
+                    sendBatchedRequests();
+                }
+            } finally {
+                accessLock.readLock().unlock();
+            }
+        }
+
         @Override
         public synchronized void close() {
             if (isOpen.compareAndSet(true, false)) {
@@ -0,0 +1,150 @@
+/*
+ * Copyright (C) 2021 Vaticle
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.vaticle.typedb.client.test.integration;
+
+import com.vaticle.typedb.client.api.answer.AnswerBatch;
+import com.vaticle.typedb.client.api.connection.TypeDBSession;
+import com.vaticle.typedb.client.api.connection.TypeDBTransaction;
+import com.vaticle.typedb.client.arrow.ArrowExporter;
+import com.vaticle.typedb.client.common.exception.TypeDBClientException;
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.FieldVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.ipc.ArrowStreamReader;
+import org.apache.arrow.vector.types.Types;
+import org.apache.arrow.vector.util.TransferPair;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static com.vaticle.typedb.client.api.connection.TypeDBSession.Type.DATA;
+import static com.vaticle.typedb.client.api.connection.TypeDBTransaction.Type.READ;
+import static com.vaticle.typedb.client.common.exception.ErrorMessage.Query.COLUMN_KIND_MISMATCH;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+public class ArrowExporterTest extends CoreIntegrationTest {
+
+    private static final List<String> VARIABLES = Collections.singletonList("x");
+    private BufferAllocator allocator;
+    private TypeDBSession session;
+    private TypeDBTransaction tx;
+
+    @BeforeClass
+    public static void setUpClass() {
+        resetDatabase(PERSON_SCHEMA);
+        insert(Arrays.asList("insert $p isa person, has name \"alice\", has age 30;",
+                             "insert $p isa person, has name \"bob\", has age 25;"));
+    }
+
+    @Before
+    public void setUp() {
+        allocator = new RootAllocator();
+        session = client.session(DATABASE, DATA);
+        tx = session.transaction(READ);
+    }
+
+    @After
+    public void tearDown() {
+        tx.close();
+        session.close();
+        allocator.close();
+    }
+
+    @Test
+    public void for_each_widens_a_column_that_changes_kind_to_text() {
+        List<Types.MinorType> types = new ArrayList<>();
+        List<String> values = new ArrayList<>();
+        long rows = new ArrowExporter(allocator, VARIABLES).forEach(agesThenNames(), root -> {
+            types.add(root.getVector(0).getMinorType());
+            for (int i = 0; i < root.getRowCount(); i++) values.add(root.getVector(0).getObject(i).toString());
+        });
+        assertEquals(4, rows);
+        assertEquals(Arrays.asList(Types.MinorType.BIGINT, Types.MinorType.VARCHAR), types);
+        assertEquals(Arrays.asList("25", "30", "alice", "bob"), values);
+    }
+
+    @Test
+    public void for_each_roots_can_be_kept_by_transferring_their_vectors() {
+        List<VectorSchemaRoot> kept = new ArrayList<>();
+        new ArrowExporter(allocator, VARIABLES, 1).forEach(agesThenNames(), root -> {
+            List<FieldVector> vectors = new ArrayList<>();
+            for (FieldVector vector : root.getFieldVectors()) {
+                TransferPair transfer = vector.getTransferPair(allocator);
+                transfer.transfer();
+                vectors.add((FieldVector) transfer.getTo());
+            }
+            kept.add(new VectorSchemaRoot(vectors));
+        });
+        try {
+            assertEquals(4, kept.size());
+            assertEquals(25L, kept.get(0).getVector(0).getObject(0));
+            assertEquals(30L, kept.get(1).getVector(0).getObject(0));
+            assertEquals("alice", kept.get(2).getVector(0).getObject(0).toString());
+            assertEquals("bob", kept.get(3).getVector(0).getObject(0).toString());
+        } finally {
+            kept.forEach(VectorSchemaRoot::close);
+        }
+    }
+
+    @Test
+    public void write_rejects_a_column_that_changes_kind() {
+        try {
+            new ArrowExporter(allocator, VARIABLES).write(agesThenNames(), new ByteArrayOutputStream());
+            fail();
+        } catch (TypeDBClientException e) {
+            assertEquals(COLUMN_KIND_MISMATCH, e.getErrorMessage());
+        }
+    }
+
+    @Test
+    public void write_exports_a_column_declared_as_text() throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ArrowExporter exporter = new ArrowExporter(allocator, VARIABLES).kind("x", AnswerBatch.Kind.STRING);
+        assertEquals(4, exporter.write(agesThenNames(), output));
+        List<String> values = new ArrayList<>();
+        try (ArrowStreamReader reader = new ArrowStreamReader(new ByteArrayInputStream(output.toByteArray()), allocator)) {
+            while (reader.loadNextBatch()) {
+                VectorSchemaRoot root = reader.getVectorSchemaRoot();
+                assertEquals(Types.MinorType.VARCHAR, root.getVector(0).getMinorType());
+                for (int i = 0; i < root.getRowCount(); i++) values.add(root.getVector(0).getObject(i).toString());
+            }
+        }
+        assertEquals(Arrays.asList("25", "30", "alice", "bob"), values);
+    }
+
+    private Stream<AnswerBatch> agesThenNames() {
+        return Stream.concat(tx.query().matchBatches("match $x isa age; sort $x;"),
+                             tx.query().matchBatches("match $x isa name; sort $x;"));
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (C) 2021 Vaticle
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.vaticle.typedb.client.test.integration;
+
+import com.vaticle.typedb.client.api.concept.type.AttributeType;
+import com.vaticle.typedb.client.api.concept.type.EntityType;
+import com.vaticle.typedb.client.api.concept.type.RelationType;
+import com.vaticle.typedb.client.api.concept.type.RoleType;
+import com.vaticle.typedb.client.api.connection.TypeDBSession;
+import com.vaticle.typedb.client.api.connection.TypeDBTransaction;
+import com.vaticle.typedb.client.api.query.QueryFuture;
+import com.vaticle.typedb.client.common.exception.TypeDBClientException;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static com.vaticle.typedb.client.api.connection.TypeDBSession.Type.SCHEMA;
+import static com.vaticle.typedb.client.api.connection.TypeDBTransaction.Type.WRITE;
+import static java.util.stream.Collectors.toList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.fail;
+
+public class AsyncTypeTest extends CoreIntegrationTest {
+
+    private TypeDBSession session;
+    private TypeDBTransaction tx;
+
+    @BeforeClass
+    public static void setUpClass() {
+        resetDatabase(PERSON_SCHEMA);
+        define("define code sub attribute, value string; pet sub entity; " +
+                       "friendship sub relation, relates friend; person plays friendship:friend;");
+    }
+
+    @Before
+    public void setUp() {
+        session = client.session(DATABASE, SCHEMA);
+        tx = session.transaction(WRITE);
+    }
+
+    @After
+    public void tearDown() {
+        tx.close();
+        session.close();
+    }
+
+    @Test
+    public void async_updates_sent_together_are_all_applied() {
+        EntityType.Remote pet = tx.concepts().getEntityType("pet").asRemote(tx);
+        RelationType.Remote friendship = tx.concepts().getRelationType("friendship").asRemote(tx);
+        RoleType friend = friendship.getRelates("friend");
+        AttributeType.String.Remote code = tx.concepts().getAttributeType("code").asString().asRemote(tx);
+
+        List<QueryFuture<Void>> updates = Arrays.asList(
+                pet.setOwnsAsync(code),
+                pet.setPlaysAsync(friend),
+                friendship.setRelatesAsync("mentor"),
+                code.setRegexAsync("^[a-z0-9]+$")
+        );
+        // Requests are answered in the order they were sent, so this read sees the regex set just before it
+        QueryFuture<String> regex = code.getRegexAsync();
+        QueryFuture<Void> rename = code.setLabelAsync("identifier");
+        updates.forEach(QueryFuture::get);
+        rename.get();
+
+        assertEquals("^[a-z0-9]+$", regex.get());
+        assertEquals("identifier", code.getLabel().name());
+        assertEquals(Collections.singletonList("identifier"), pet.getOwns().map(type -> type.getLabel().name()).collect(toList()));
+        assertEquals(Collections.singletonList(friend), pet.getPlays().collect(toList()));
+        assertNotNull(friendship.getRelates("mentor"));
+    }
+
+    @Test
+    public void failed_async_rename_keeps_the_old_label() {
+        EntityType.Remote pet = tx.concepts().getEntityType("pet").asRemote(tx);
+        QueryFuture<Void> rename = pet.setLabelAsync("person");
+        try {
+            rename.get();
+            fail();
+        } catch (TypeDBClientException e) {
+            assertEquals("pet", pet.getLabel().name());
+        }
+    }
+}
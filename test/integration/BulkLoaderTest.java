@@ -0,0 +1,115 @@
+/*
+ * Copyright (C) 2021 Vaticle
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.vaticle.typedb.client.test.integration;
+
+import com.vaticle.typedb.client.api.connection.TypeDBSession;
+import com.vaticle.typedb.client.api.connection.TypeDBTransaction;
+import com.vaticle.typedb.client.common.exception.TypeDBClientException;
+import com.vaticle.typedb.client.connection.BulkLoader;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.stream.IntStream;
+
+import static com.vaticle.typedb.client.api.connection.TypeDBSession.Type.DATA;
+import static com.vaticle.typedb.client.api.connection.TypeDBTransaction.Type.READ;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class BulkLoaderTest extends CoreIntegrationTest {
+
+    @Before
+    public void setUp() {
+        resetDatabase(PERSON_SCHEMA);
+    }
+
+    @Test
+    public void queries_are_committed_in_batches() {
+        try (TypeDBSession session = client.session(DATABASE, DATA)) {
+            BulkLoader.Options options = BulkLoader.Options.defaults().batchSize(10).parallelisation(2);
+            try (BulkLoader loader = new BulkLoader(session, options)) {
+                loader.load(IntStream.range(0, 95).mapToObj(BulkLoaderTest::insertPerson));
+                assertEquals(95, loader.metrics().queries());
+                assertEquals(10, loader.metrics().commits());
+                assertEquals(0, loader.metrics().retries());
+                assertEquals(0, loader.metrics().inFlightBatches());
+            }
+            assertEquals(95, countPeople(session));
+        }
+    }
+
+    @Test
+    public void producer_waits_when_writers_are_saturated() {
+        try (TypeDBSession session = client.session(DATABASE, DATA)) {
+            BulkLoader.Options options = BulkLoader.Options.defaults().batchSize(1).parallelisation(1);
+            try (BulkLoader loader = new BulkLoader(session, options)) {
+                for (int i = 0; i < 20; i++) {
+                    loader.add(insertPerson(i));
+                    // One batch committing and one queued behind it is the most a single writer may hold
+                    assertTrue(loader.metrics().inFlightBatches() <= 2);
+                }
+                loader.flush();
+                assertEquals(20, loader.metrics().commits());
+            }
+            assertEquals(20, countPeople(session));
+        }
+    }
+
+    @Test
+    public void failed_batch_is_reported_without_retrying() {
+        try (TypeDBSession session = client.session(DATABASE, DATA)) {
+            BulkLoader loader = new BulkLoader(session, BulkLoader.Options.defaults().batchSize(5).maxAttempts(3));
+            IntStream.range(0, 5).mapToObj(BulkLoaderTest::insertPerson).forEach(loader::add);
+            loader.add("insert $x isa undefined-type;");
+            try {
+                loader.flush();
+                fail();
+            } catch (TypeDBClientException e) {
+                assertEquals(0, loader.metrics().retries());
+            }
+            try {
+                loader.add(insertPerson(6));
+                fail();
+            } catch (TypeDBClientException e) {
+                // The first failure is rethrown to every later caller
+            }
+            try {
+                loader.close();
+                fail();
+            } catch (TypeDBClientException e) {
+                // Closing flushes, and so reports the failure once more
+            }
+            assertEquals(5, countPeople(session));
+        }
+    }
+
+    private static String insertPerson(int i) {
+        return "insert $p isa person, has name \"person-" + i + "\";";
+    }
+
+    private static long countPeople(TypeDBSession session) {
+        try (TypeDBTransaction tx = session.transaction(READ)) {
+            return tx.query().matchAggregate("match $p isa person; count;").get().asLong();
+        }
+    }
+}
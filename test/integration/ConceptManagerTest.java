@@ -0,0 +1,139 @@
+/*
+ * Copyright (C) 2021 Vaticle
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.vaticle.typedb.client.test.integration;
+
+import com.vaticle.typedb.client.api.concept.thing.Attribute;
+import com.vaticle.typedb.client.api.concept.thing.Thing;
+import com.vaticle.typedb.client.api.concept.type.AttributeType;
+import com.vaticle.typedb.client.api.connection.TypeDBSession;
+import com.vaticle.typedb.client.api.connection.TypeDBTransaction;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static com.vaticle.typedb.client.api.connection.TypeDBSession.Type.DATA;
+import static com.vaticle.typedb.client.api.connection.TypeDBTransaction.Type.READ;
+import static java.util.stream.Collectors.toList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class ConceptManagerTest extends CoreIntegrationTest {
+
+    private static final int PEOPLE = 1_500;
+    private TypeDBSession session;
+    private TypeDBTransaction tx;
+
+    @BeforeClass
+    public static void setUpClass() {
+        resetDatabase(PERSON_SCHEMA);
+        insert(IntStream.range(0, PEOPLE)
+                       .mapToObj(i -> "insert $p isa person, has name \"person-" + i + "\", has age " + i + ";").collect(toList()));
+    }
+
+    @Before
+    public void setUp() {
+        session = client.session(DATABASE, DATA);
+        tx = session.transaction(READ);
+    }
+
+    @After
+    public void tearDown() {
+        tx.close();
+        session.close();
+    }
+
+    @Test
+    public void get_things_returns_things_in_the_order_of_their_iids() {
+        List<String> iids = iids();
+        Collections.reverse(iids);
+        List<? extends Thing> things = tx.concepts().getThings(iids);
+        assertEquals(PEOPLE, things.size());
+        assertEquals(iids, things.stream().map(Thing::getIID).collect(toList()));
+        assertTrue(things.stream().allMatch(thing -> thing.getType().getLabel().name().equals("person")));
+    }
+
+    @Test
+    public void get_things_returns_null_for_absent_iids() {
+        List<String> iids = iids();
+        List<? extends Thing> things = tx.concepts().getThings(Arrays.asList(iids.get(0), absentIID(iids.get(0)), iids.get(1)));
+        assertEquals(3, things.size());
+        assertEquals(iids.get(0), things.get(0).getIID());
+        assertNull(things.get(1));
+        assertEquals(iids.get(1), things.get(2).getIID());
+        assertEquals(0, tx.concepts().getThings(Collections.emptyList()).size());
+    }
+
+    @Test
+    public void stream_things_skips_absent_iids() {
+        List<String> iids = new ArrayList<>(iids());
+        iids.add(PEOPLE / 2, absentIID(iids.get(0)));
+        List<String> streamed = tx.concepts().streamThings(iids).map(Thing::getIID).collect(toList());
+        iids.remove(PEOPLE / 2);
+        assertEquals(iids, streamed);
+    }
+
+    @Test
+    public void get_has_returns_the_attributes_of_every_thing() {
+        List<? extends Thing> things = tx.concepts().getThings(iids());
+        Map<Thing, List<Attribute<?>>> has = tx.concepts().getHas(things);
+        assertEquals(new ArrayList<>(things), new ArrayList<>(has.keySet()));
+        assertTrue(has.values().stream().allMatch(attributes -> attributes.size() == 2));
+
+        AttributeType age = tx.concepts().getAttributeType("age");
+        Map<Thing, List<Attribute<?>>> ages = tx.concepts().getHas(things, age);
+        assertEquals(PEOPLE, ages.size());
+        Set<Long> values = new HashSet<>();
+        for (List<Attribute<?>> attributes : ages.values()) {
+            assertEquals(1, attributes.size());
+            values.add(attributes.get(0).asLong().getValue());
+        }
+        assertEquals(PEOPLE, values.size());
+    }
+
+    @Test
+    public void get_has_answers_duplicate_things_once() {
+        List<? extends Thing> things = tx.concepts().getThings(iids().subList(0, 2));
+        Map<Thing, List<Attribute<?>>> has = tx.concepts().getHas(Arrays.asList(things.get(0), things.get(1), things.get(0)));
+        assertEquals(Arrays.asList(things.get(0), things.get(1)), new ArrayList<>(has.keySet()));
+        assertEquals(0, tx.concepts().getHas(Collections.emptyList()).size());
+    }
+
+    private List<String> iids() {
+        return tx.query().match("match $p isa person;").map(answer -> answer.get("p").asThing().getIID()).collect(toList());
+    }
+
+    private static String absentIID(String iid) {
+        // Entity keys are allocated in sequence, so the largest key is not taken by any of the inserted people
+        return iid.substring(0, iid.length() - 16) + "7fffffffffffffff";
+    }
+}
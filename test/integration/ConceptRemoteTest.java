@@ -0,0 +1,123 @@
+/*
+ * Copyright (C) 2021 Vaticle
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.vaticle.typedb.client.test.integration;
+
+import com.vaticle.typedb.client.api.concept.thing.Attribute;
+import com.vaticle.typedb.client.api.concept.thing.Entity;
+import com.vaticle.typedb.client.api.concept.thing.Relation;
+import com.vaticle.typedb.client.api.concept.type.RoleType;
+import com.vaticle.typedb.client.api.connection.TypeDBSession;
+import com.vaticle.typedb.client.api.connection.TypeDBTransaction;
+import com.vaticle.typedb.client.common.exception.TypeDBClientException;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static com.vaticle.typedb.client.api.connection.TypeDBSession.Type.DATA;
+import static com.vaticle.typedb.client.api.connection.TypeDBTransaction.Type.WRITE;
+import static com.vaticle.typedb.client.common.exception.ErrorMessage.Client.TRANSACTION_CLOSED;
+import static com.vaticle.typedb.client.concept.BulkRequests.BATCH_SIZE;
+import static java.util.stream.Collectors.toList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.fail;
+
+public class ConceptRemoteTest extends CoreIntegrationTest {
+
+    // Enough values to span several batches, with a partial batch at the end
+    private static final int VALUES = BATCH_SIZE * 2 + BATCH_SIZE / 2;
+    private TypeDBSession session;
+    private TypeDBTransaction tx;
+
+    @BeforeClass
+    public static void setUpClass() {
+        resetDatabase(PERSON_SCHEMA);
+        define("define code sub attribute, value string, regex \"^[a-z]+$\"; " +
+                       "friendship sub relation, relates friend; person plays friendship:friend;");
+    }
+
+    @Before
+    public void setUp() {
+        session = client.session(DATABASE, DATA);
+        tx = session.transaction(WRITE);
+    }
+
+    @After
+    public void tearDown() {
+        tx.close();
+        session.close();
+    }
+
+    @Test
+    public void put_returns_attributes_in_the_order_of_their_values() {
+        List<String> values = IntStream.range(0, VALUES).mapToObj(i -> "name-" + i).collect(toList());
+        Collections.shuffle(values, new Random(0));
+        List<? extends Attribute.String> names = tx.concepts().getAttributeType("name").asString().asRemote(tx).put(values);
+        assertEquals(values, names.stream().map(Attribute.String::getValue).collect(toList()));
+    }
+
+    @Test
+    public void set_has_and_unset_has_span_several_batches() {
+        Entity person = tx.concepts().getEntityType("person").asRemote(tx).create();
+        List<? extends Attribute.String> names = tx.concepts().getAttributeType("name").asString().asRemote(tx).put(
+                IntStream.range(0, VALUES).mapToObj(i -> "name-" + i).collect(toList()));
+        person.asRemote(tx).setHas(names);
+        assertEquals(VALUES, person.asRemote(tx).getHas().count());
+
+        person.asRemote(tx).unsetHas(names.subList(0, BATCH_SIZE + 1));
+        assertEquals(VALUES - BATCH_SIZE - 1, person.asRemote(tx).getHas().count());
+    }
+
+    @Test
+    public void add_players_and_remove_players_span_several_batches() {
+        Relation friendship = tx.concepts().getRelationType("friendship").asRemote(tx).create();
+        RoleType friend = tx.concepts().getRelationType("friendship").asRemote(tx).getRelates("friend");
+        List<Entity> people = new ArrayList<>();
+        for (int i = 0; i < BATCH_SIZE + BATCH_SIZE / 2; i++) {
+            people.add(tx.concepts().getEntityType("person").asRemote(tx).create());
+        }
+        friendship.asRemote(tx).addPlayers(Collections.singletonMap(friend, people));
+        assertEquals(people.size(), friendship.asRemote(tx).getPlayers(friend).count());
+
+        friendship.asRemote(tx).removePlayers(Collections.singletonMap(friend, people.subList(0, BATCH_SIZE + 1)));
+        assertEquals(people.size() - BATCH_SIZE - 1, friendship.asRemote(tx).getPlayers(friend).count());
+    }
+
+    @Test
+    public void put_rethrows_the_first_failure() {
+        try {
+            tx.concepts().getAttributeType("code").asString().asRemote(tx).put(Arrays.asList("valid", "INVALID", "other"));
+            fail();
+        } catch (TypeDBClientException e) {
+            // The server rejects the second value, and the requests that follow it only fail because of that rejection
+            assertNotEquals(TRANSACTION_CLOSED, e.getErrorMessage());
+        }
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (C) 2021 Vaticle
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.vaticle.typedb.client.test.integration;
+
+import com.vaticle.typedb.client.TypeDB;
+import com.vaticle.typedb.client.api.connection.TypeDBClient;
+import com.vaticle.typedb.client.api.connection.TypeDBSession;
+import com.vaticle.typedb.client.api.connection.TypeDBTransaction;
+import com.vaticle.typedb.client.common.exception.ErrorMessage;
+import com.vaticle.typedb.client.common.exception.TypeDBClientException;
+import com.vaticle.typedb.common.test.server.TypeDBCoreRunner;
+import org.junit.BeforeClass;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Stream;
+
+import static com.vaticle.typedb.client.api.connection.TypeDBSession.Type.DATA;
+import static com.vaticle.typedb.client.api.connection.TypeDBSession.Type.SCHEMA;
+import static com.vaticle.typedb.client.api.connection.TypeDBTransaction.Type.WRITE;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+public abstract class CoreIntegrationTest {
+
+    protected static final String DATABASE = "typedb";
+    protected static final String PERSON_SCHEMA = "define name sub attribute, value string; " +
+            "age sub attribute, value long; person sub entity, owns name, owns age;";
+    private static TypeDBCoreRunner typedb;
+    protected static TypeDBClient client;
+
+    @BeforeClass
+    public static void startServer() throws InterruptedException, IOException, TimeoutException {
+        // A suite runs its test classes in one JVM, and they all share the server started by the first of them
+        if (typedb != null) return;
+        typedb = new TypeDBCoreRunner();
+        typedb.start();
+        client = TypeDB.coreClient(typedb.address());
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            client.close();
+            typedb.stop();
+        }));
+    }
+
+    protected static void resetDatabase(String schema) {
+        if (client.databases().contains(DATABASE)) client.databases().get(DATABASE).delete();
+        client.databases().create(DATABASE);
+        define(schema);
+    }
+
+    protected static void define(String schema) {
+        try (TypeDBSession session = client.session(DATABASE, SCHEMA);
+             TypeDBTransaction tx = session.transaction(WRITE)) {
+            tx.query().define(schema);
+            tx.commit();
+        }
+    }
+
+    protected static void insert(List<String> queries) {
+        try (TypeDBSession session = client.session(DATABASE, DATA);
+             TypeDBTransaction tx = session.transaction(WRITE)) {
+            tx.query().insertAll(queries).forEach(Stream::count);
+            tx.commit();
+        }
+    }
+
+    protected static void assertThrows(ErrorMessage error, Runnable runnable) {
+        try {
+            runnable.run();
+            fail();
+        } catch (TypeDBClientException e) {
+            assertEquals(error, e.getErrorMessage());
+        }
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright (C) 2021 Vaticle
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.vaticle.typedb.client.test.integration;
+
+import com.vaticle.typedb.client.api.concept.thing.Thing;
+import com.vaticle.typedb.client.api.connection.TypeDBSession;
+import com.vaticle.typedb.client.api.connection.TypeDBTransaction;
+import com.vaticle.typedb.client.connection.GraphTraversal;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static com.vaticle.typedb.client.api.connection.TypeDBSession.Type.DATA;
+import static com.vaticle.typedb.client.api.connection.TypeDBTransaction.Type.READ;
+import static com.vaticle.typedb.client.common.exception.ErrorMessage.Client.NEGATIVE_VALUE;
+import static java.util.stream.Collectors.toSet;
+import static org.junit.Assert.assertEquals;
+
+public class GraphTraversalTest extends CoreIntegrationTest {
+
+    private TypeDBSession session;
+    private TypeDBTransaction tx;
+
+    @BeforeClass
+    public static void setUpClass() {
+        resetDatabase(PERSON_SCHEMA);
+        define("define friendship sub relation, relates friend; person plays friendship:friend;");
+        insert(Arrays.asList("insert $a isa person, has name \"alice\"; $b isa person, has name \"bob\"; " +
+                                     "(friend: $a, friend: $b) isa friendship;",
+                             "insert $c isa person, has name \"carol\";",
+                             "insert $e isa person, has name \"erin\"; $f isa person, has name \"frank\"; " +
+                                     "$g isa person, has name \"grace\"; (friend: $e, friend: $f) isa friendship; " +
+                                     "(friend: $e, friend: $g) isa friendship;"));
+    }
+
+    @Before
+    public void setUp() {
+        session = client.session(DATABASE, DATA);
+        tx = session.transaction(READ);
+    }
+
+    @After
+    public void tearDown() {
+        tx.close();
+        session.close();
+    }
+
+    @Test
+    public void expand_follows_relations_level_by_level() {
+        List<List<Thing>> levels = new GraphTraversal(tx).expand(Collections.singletonList(person("alice")));
+        assertEquals(3, levels.size());
+        assertEquals(Collections.singleton("friendship"), labels(levels.get(1)));
+        assertEquals(Collections.singleton(person("bob").getIID()), iids(levels.get(2)));
+    }
+
+    @Test
+    public void expand_visits_each_thing_once() {
+        List<List<Thing>> levels = new GraphTraversal(tx, GraphTraversal.Options.defaults().maxDepth(4))
+                .expand(Arrays.asList(person("alice"), person("bob"), person("alice")));
+        assertEquals(2, levels.size());
+        assertEquals(2, levels.get(0).size());
+        assertEquals(Collections.singleton("friendship"), labels(levels.get(1)));
+    }
+
+    @Test
+    public void expand_follows_attributes_to_their_owners() {
+        Thing carol = person("carol");
+        List<List<Thing>> levels = new GraphTraversal(tx, GraphTraversal.Options.defaults().attributes(true))
+                .expand(Collections.singletonList(carol));
+        assertEquals(Collections.singleton("name"), labels(levels.get(1)));
+        assertEquals(Collections.singleton(carol.getIID()), iids(new GraphTraversal(tx).expand(levels.get(1)).get(1)));
+    }
+
+    @Test
+    public void expand_stops_at_the_fan_out_limit() {
+        List<List<Thing>> levels = new GraphTraversal(tx, GraphTraversal.Options.defaults().maxFanOut(1))
+                .expand(Collections.singletonList(person("erin")));
+        assertEquals(3, levels.size());
+        assertEquals(1, levels.get(1).size());
+        assertEquals(1, levels.get(2).size());
+        // The neighbours past the limit were drained, so the same transaction answers a full traversal
+        assertEquals(2, new GraphTraversal(tx).expand(Collections.singletonList(person("erin"))).get(1).size());
+    }
+
+    @Test
+    public void expand_to_depth_zero_returns_the_start_level() {
+        List<List<Thing>> levels = new GraphTraversal(tx, GraphTraversal.Options.defaults().maxDepth(0))
+                .expand(Collections.singletonList(person("alice")));
+        assertEquals(1, levels.size());
+        assertEquals(Collections.singleton(person("alice").getIID()), iids(levels.get(0)));
+        assertThrows(NEGATIVE_VALUE, () -> GraphTraversal.Options.defaults().maxDepth(-1));
+    }
+
+    private Thing person(String name) {
+        return tx.query().match("match $p isa person, has name \"" + name + "\";").findFirst().get().get("p").asThing();
+    }
+
+    private static Set<String> iids(List<Thing> things) {
+        return things.stream().map(Thing::getIID).collect(toSet());
+    }
+
+    private static Set<String> labels(List<Thing> things) {
+        Set<String> labels = new HashSet<>();
+        for (Thing thing : things) labels.add(thing.getType().getLabel().name());
+        return labels;
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright (C) 2021 Vaticle
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.vaticle.typedb.client.test.integration;
+
+import com.vaticle.typedb.client.api.answer.AnswerBatch;
+import com.vaticle.typedb.client.api.answer.AnswerCursor;
+import com.vaticle.typedb.client.api.connection.TypeDBSession;
+import com.vaticle.typedb.client.api.connection.TypeDBTransaction;
+import com.vaticle.typedb.client.api.query.ExportFormat;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import java.util.List;
+
+import static com.vaticle.typedb.client.api.connection.TypeDBSession.Type.DATA;
+import static com.vaticle.typedb.client.api.connection.TypeDBTransaction.Type.READ;
+import static com.vaticle.typedb.client.common.exception.ErrorMessage.Concept.INVALID_CONCEPT_CASTING;
+import static com.vaticle.typedb.client.common.exception.ErrorMessage.Internal.ILLEGAL_STATE;
+import static com.vaticle.typedb.client.common.exception.ErrorMessage.Query.VARIABLE_DOES_NOT_EXIST;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.stream.Collectors.toList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+public class MatchResultTest extends CoreIntegrationTest {
+
+    private static final String PEOPLE = "match $p isa person, has name $n, has age $a; sort $n;";
+
+    @BeforeClass
+    public static void setUpClass() {
+        resetDatabase(PERSON_SCHEMA);
+        insert(Arrays.asList("insert $p isa person, has name \"alice\", has age 30;",
+                             "insert $p isa person, has name \"smith, jo\", has age 25;"));
+    }
+
+    @Test
+    public void export_writes_csv_and_quotes_fields_with_commas() {
+        assertEquals("n,a\nalice,30\n\"smith, jo\",25\n", export(ExportFormat.CSV));
+    }
+
+    @Test
+    public void export_writes_json_lines() {
+        assertEquals("{\"n\":\"alice\",\"a\":30}\n{\"n\":\"smith, jo\",\"a\":25}\n", export(ExportFormat.JSONL));
+    }
+
+    @Test
+    public void match_batches_hold_answers_column_by_column() {
+        try (TypeDBSession session = client.session(DATABASE, DATA);
+             TypeDBTransaction tx = session.transaction(READ)) {
+            List<AnswerBatch> batches = tx.query().matchBatches(PEOPLE).collect(toList());
+            assertEquals(2, batches.stream().mapToInt(AnswerBatch::size).sum());
+            AnswerBatch batch = batches.get(0);
+            assertEquals(2, batch.size());
+
+            AnswerBatch.Column names = batch.column("n");
+            assertEquals(AnswerBatch.Kind.STRING, names.kind());
+            assertEquals("alice", names.dictionary().get(names.codes()[0]));
+            assertEquals("smith, jo", names.dictionary().get(names.codes()[1]));
+
+            AnswerBatch.Column ages = batch.column("a");
+            assertEquals(AnswerBatch.Kind.LONG, ages.kind());
+            assertEquals(30, ages.longs()[0]);
+            assertEquals(25, ages.longs()[1]);
+
+            AnswerBatch.Column people = batch.column("p");
+            assertEquals(AnswerBatch.Kind.THING, people.kind(0));
+            assertNotNull(people.iid(0));
+            assertEquals(people.iidOffsets()[2], people.iids().length);
+        }
+    }
+
+    @Test
+    public void match_cursor_reads_answers_in_place() {
+        try (TypeDBSession session = client.session(DATABASE, DATA);
+             TypeDBTransaction tx = session.transaction(READ)) {
+            AnswerCursor cursor = tx.query().matchCursor(PEOPLE);
+            assertTrue(cursor.next());
+            assertTrue(cursor.has("n"));
+            assertFalse(cursor.has("x"));
+            assertEquals("alice", cursor.getString("n"));
+            assertEquals(30, cursor.getLong("a"));
+            assertEquals("person", cursor.getLabel("p"));
+            assertEquals("age", cursor.getLabel("a"));
+            assertEquals(cursor.get().get("p").asThing().getIID(), cursor.getIID("p"));
+
+            assertTrue(cursor.next());
+            assertEquals("smith, jo", cursor.getString("n"));
+            assertEquals(25, cursor.getLong("a"));
+            assertFalse(cursor.next());
+            assertFalse(cursor.next());
+        }
+    }
+
+    @Test
+    public void match_cursor_rejects_reads_that_do_not_match_the_answer() {
+        try (TypeDBSession session = client.session(DATABASE, DATA);
+             TypeDBTransaction tx = session.transaction(READ)) {
+            AnswerCursor cursor = tx.query().matchCursor(PEOPLE);
+            assertThrows(ILLEGAL_STATE, () -> cursor.getString("n"));
+            assertTrue(cursor.next());
+            assertThrows(VARIABLE_DOES_NOT_EXIST, () -> cursor.getString("x"));
+            assertThrows(INVALID_CONCEPT_CASTING, () -> cursor.getLong("n"));
+            assertThrows(INVALID_CONCEPT_CASTING, () -> cursor.getString("p"));
+        }
+    }
+
+    private static String export(ExportFormat format) {
+        try (TypeDBSession session = client.session(DATABASE, DATA);
+             TypeDBTransaction tx = session.transaction(READ)) {
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+            assertEquals(2, (long) tx.query().export(PEOPLE, Arrays.asList("n", "a"), format, output).get());
+            return new String(output.toByteArray(), UTF_8);
+        }
+    }
+}
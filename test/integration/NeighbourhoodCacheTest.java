@@ -0,0 +1,118 @@
+/*
+ * Copyright (C) 2021 Vaticle
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.vaticle.typedb.client.test.integration;
+
+import com.vaticle.typedb.client.api.concept.thing.Thing;
+import com.vaticle.typedb.client.api.connection.NeighbourhoodCacheMetrics;
+import com.vaticle.typedb.client.api.connection.TypeDBOptions;
+import com.vaticle.typedb.client.api.connection.TypeDBSession;
+import com.vaticle.typedb.client.api.connection.TypeDBTransaction;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static com.vaticle.typedb.client.api.connection.TypeDBSession.Type.DATA;
+import static com.vaticle.typedb.client.api.connection.TypeDBTransaction.Type.READ;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class NeighbourhoodCacheTest extends CoreIntegrationTest {
+
+    private static final int SMALL_PEOPLE = 15;
+    // Each small person owns a tag and 8 names, the big person a tag and 20 names
+    private static final int SMALL_ANSWERS = 9;
+    private static final int BIG_ANSWERS = 21;
+    private TypeDBSession session;
+    private TypeDBTransaction tx;
+
+    @BeforeClass
+    public static void setUpClass() {
+        resetDatabase(PERSON_SCHEMA);
+        define("define tag sub attribute, value string; person owns tag;");
+        List<String> inserts = new ArrayList<>();
+        for (int i = 0; i < SMALL_PEOPLE; i++) inserts.add(insertPerson("small-" + i, 8));
+        inserts.add(insertPerson("big", 20));
+        insert(inserts);
+    }
+
+    @Before
+    public void setUp() {
+        session = client.session(DATABASE, DATA);
+        // Entries are bounded by answers alone here, and a single entry may hold at most a tenth of them
+        tx = session.transaction(READ, TypeDBOptions.core().neighbourhoodCacheSize(1_000).neighbourhoodCacheAnswers(100));
+    }
+
+    @After
+    public void tearDown() {
+        tx.close();
+        session.close();
+    }
+
+    @Test
+    public void small_neighbourhoods_are_cached() {
+        Thing person = person("small-0");
+        assertEquals(SMALL_ANSWERS, person.asRemote(tx).getHas().count());
+        assertEquals(SMALL_ANSWERS, person.asRemote(tx).getHas().count());
+        assertEquals(1, cache().hits());
+        assertEquals(1, cache().size());
+        assertEquals(SMALL_ANSWERS, cache().answers());
+    }
+
+    @Test
+    public void neighbourhoods_above_the_entry_limit_are_not_cached() {
+        Thing person = person("big");
+        assertEquals(BIG_ANSWERS, person.asRemote(tx).getHas().count());
+        assertEquals(BIG_ANSWERS, person.asRemote(tx).getHas().count());
+        assertEquals(0, cache().hits());
+        assertEquals(0, cache().size());
+        assertEquals(0, cache().answers());
+    }
+
+    @Test
+    public void least_recently_used_entries_are_evicted_past_the_answer_limit() {
+        for (int i = 0; i < SMALL_PEOPLE; i++) person("small-" + i).asRemote(tx).getHas().count();
+        assertTrue(cache().answers() <= cache().maxAnswers());
+        assertEquals(cache().maxAnswers() / SMALL_ANSWERS, cache().size());
+        assertEquals(SMALL_PEOPLE - cache().size(), cache().evictions());
+        person("small-" + (SMALL_PEOPLE - 1)).asRemote(tx).getHas().count();
+        assertEquals(1, cache().hits());
+    }
+
+    private NeighbourhoodCacheMetrics cache() {
+        return tx.neighbourhoodCache().get();
+    }
+
+    private Thing person(String tag) {
+        return tx.query().match("match $p isa person, has tag \"" + tag + "\";").findFirst().get().get("p").asThing();
+    }
+
+    private static String insertPerson(String tag, int names) {
+        return "insert $p isa person, has tag \"" + tag + "\"" + IntStream.range(0, names)
+                .mapToObj(i -> ", has name \"" + tag + "-name-" + i + "\"").collect(Collectors.joining()) + ";";
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (C) 2021 Vaticle
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.vaticle.typedb.client.test.integration;
+
+import com.vaticle.typedb.client.TypeDB;
+import com.vaticle.typedb.client.api.connection.TypeDBClient;
+import com.vaticle.typedb.client.api.connection.TypeDBCredential;
+import com.vaticle.typedb.client.api.connection.TypeDBOptions;
+import com.vaticle.typedb.client.api.connection.TypeDBSession;
+import com.vaticle.typedb.client.api.connection.TypeDBTransaction;
+import com.vaticle.typedb.client.connection.ParallelReader;
+import com.vaticle.typedb.common.test.server.TypeDBClusterRunner;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.IntStream;
+
+import static com.vaticle.typedb.client.api.connection.TypeDBSession.Type.DATA;
+import static com.vaticle.typedb.client.api.connection.TypeDBSession.Type.SCHEMA;
+import static com.vaticle.typedb.client.api.connection.TypeDBTransaction.Type.WRITE;
+import static java.util.stream.Collectors.toList;
+import static org.junit.Assert.assertEquals;
+
+public class ParallelReaderClusterTest {
+
+    private static final String DATABASE = "typedb";
+    private static TypeDBClusterRunner typedb;
+    private static TypeDBClient client;
+
+    @BeforeClass
+    public static void setUpClass() throws InterruptedException, IOException, TimeoutException {
+        typedb = new TypeDBClusterRunner();
+        typedb.start();
+        client = TypeDB.clusterClient(typedb.address(), new TypeDBCredential("admin", "password", false));
+        if (client.databases().contains(DATABASE)) client.databases().get(DATABASE).delete();
+        client.databases().create(DATABASE);
+        try (TypeDBSession session = client.session(DATABASE, SCHEMA);
+             TypeDBTransaction tx = session.transaction(WRITE)) {
+            tx.query().define("define name sub attribute, value string; person sub entity, owns name;");
+            tx.commit();
+        }
+        try (TypeDBSession session = client.session(DATABASE, DATA);
+             TypeDBTransaction tx = session.transaction(WRITE)) {
+            IntStream.range(0, 10).forEach(i -> tx.query().insert("insert $p isa person, has name \"person-" + i + "\";").count());
+            tx.commit();
+        }
+    }
+
+    @AfterClass
+    public static void tearDownClass() {
+        client.close();
+        typedb.stop();
+    }
+
+    @Test
+    public void reader_opens_on_a_cluster_session_without_options() {
+        List<String> queries = IntStream.range(0, 10)
+                .mapToObj(i -> "match $p isa person, has name \"person-" + i + "\";").collect(toList());
+        try (TypeDBSession session = client.session(DATABASE, DATA);
+             ParallelReader reader = new ParallelReader(session, 2)) {
+            assertEquals(10, reader.match(queries).count());
+        }
+    }
+
+    @Test
+    public void reader_opens_on_a_cluster_session_with_cluster_options() {
+        List<String> queries = IntStream.range(0, 10)
+                .mapToObj(i -> "match $p isa person, has name \"person-" + i + "\";").collect(toList());
+        try (TypeDBSession session = client.session(DATABASE, DATA);
+             ParallelReader reader = new ParallelReader(session, 2, TypeDBOptions.cluster().readAnyReplica(true))) {
+            assertEquals(10, reader.matchOrdered(queries).count());
+        }
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (C) 2021 Vaticle
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.vaticle.typedb.client.test.integration;
+
+import com.vaticle.typedb.client.api.answer.ConceptMap;
+import com.vaticle.typedb.client.api.connection.TypeDBSession;
+import com.vaticle.typedb.client.api.connection.TypeDBTransaction;
+import com.vaticle.typedb.client.common.exception.TypeDBClientException;
+import com.vaticle.typedb.client.connection.ParallelReader;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static com.vaticle.typedb.client.api.connection.TypeDBSession.Type.DATA;
+import static java.util.stream.Collectors.toList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class ParallelReaderTest extends CoreIntegrationTest {
+
+    private static final int PEOPLE = 3_000;
+
+    @BeforeClass
+    public static void setUpClass() {
+        resetDatabase(PERSON_SCHEMA);
+        insert(IntStream.range(0, PEOPLE)
+                       .mapToObj(i -> "insert $p isa person, has name \"person-" + i + "\";").collect(toList()));
+    }
+
+    @Test
+    public void answers_of_all_queries_are_merged() {
+        try (TypeDBSession session = client.session(DATABASE, DATA);
+             ParallelReader reader = new ParallelReader(session, 3)) {
+            List<String> queries = IntStream.range(0, 10)
+                    .mapToObj(i -> "match $p isa person, has name \"person-" + i + "\";").collect(toList());
+            assertEquals(10, reader.match(queries).count());
+            List<ConceptMap> ordered = reader.matchOrdered(queries).collect(toList());
+            assertEquals(10, ordered.size());
+        }
+    }
+
+    @Test(timeout = 60_000)
+    public void closing_a_partly_read_stream_frees_the_producers() {
+        try (TypeDBSession session = client.session(DATABASE, DATA);
+             ParallelReader reader = new ParallelReader(session, 2)) {
+            List<String> queries = Collections.nCopies(4, "match $p isa person;");
+            for (int i = 0; i < 3; i++) {
+                // Each producer has far more answers than the merge buffer holds, so it is blocked when the stream closes
+                try (Stream<ConceptMap> answers = reader.match(queries)) {
+                    assertTrue(answers.findFirst().isPresent());
+                }
+            }
+            try (Stream<ConceptMap> answers = reader.match(queries)) {
+                assertEquals(4L * PEOPLE, answers.count());
+            }
+        }
+    }
+
+    @Test(timeout = 60_000)
+    public void a_failed_query_is_reported_and_the_reader_remains_usable() {
+        try (TypeDBSession session = client.session(DATABASE, DATA);
+             ParallelReader reader = new ParallelReader(session, 2)) {
+            List<String> queries = Arrays.asList("match $p isa person;", "match $x isa undefined-type;", "match $p isa person;");
+            try (Stream<ConceptMap> answers = reader.match(queries)) {
+                answers.count();
+                fail();
+            } catch (TypeDBClientException e) {
+                // The failing query ends the whole merge
+            }
+            try (Stream<ConceptMap> answers = reader.match(Collections.singletonList("match $p isa person;"))) {
+                assertEquals(PEOPLE, answers.count());
+            }
+        }
+    }
+}
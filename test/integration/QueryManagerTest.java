@@ -0,0 +1,154 @@
+/*
+ * Copyright (C) 2021 Vaticle
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.vaticle.typedb.client.test.integration;
+
+import com.vaticle.typedb.client.api.answer.ConceptMap;
+import com.vaticle.typedb.client.api.concept.thing.Attribute;
+import com.vaticle.typedb.client.api.connection.TypeDBSession;
+import com.vaticle.typedb.client.api.connection.TypeDBTransaction;
+import com.vaticle.typedb.client.api.query.PreparedQuery;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static com.vaticle.typedb.client.api.connection.TypeDBSession.Type.DATA;
+import static com.vaticle.typedb.client.api.connection.TypeDBTransaction.Type.READ;
+import static com.vaticle.typedb.client.api.connection.TypeDBTransaction.Type.WRITE;
+import static java.util.stream.Collectors.toList;
+import static com.vaticle.typedb.client.common.exception.ErrorMessage.Query.PARAMETER_CONTROL_CHARACTER;
+import static com.vaticle.typedb.client.common.exception.ErrorMessage.Query.PARAMETER_DOES_NOT_EXIST;
+import static com.vaticle.typedb.client.common.exception.ErrorMessage.Query.PARAMETER_NOT_BOUND;
+import static com.vaticle.typedb.client.common.exception.ErrorMessage.Query.PARAMETER_NOT_FINITE;
+import static org.junit.Assert.assertEquals;
+
+public class QueryManagerTest extends CoreIntegrationTest {
+
+    private TypeDBSession session;
+
+    @Before
+    public void setUp() {
+        resetDatabase(PERSON_SCHEMA);
+        session = client.session(DATABASE, DATA);
+    }
+
+    @After
+    public void tearDown() {
+        session.close();
+    }
+
+    @Test
+    public void insertCount_counts_the_inserted_answers() {
+        try (TypeDBTransaction tx = session.transaction(WRITE)) {
+            assertEquals(1, (long) tx.query().insertCount("insert $p isa person, has name \"alice\";").get());
+            assertEquals(1, (long) tx.query().insertCount("insert $p isa person, has name \"bob\";").get());
+            long matched = tx.query().insertCount("match $p isa person; insert $p has age 30;").get();
+            assertEquals(2, matched);
+            tx.commit();
+        }
+        assertEquals(2, count("match $p isa person, has age 30;"));
+    }
+
+    @Test
+    public void insertCount_is_zero_when_nothing_matches() {
+        try (TypeDBTransaction tx = session.transaction(WRITE)) {
+            assertEquals(0, (long) tx.query().insertCount("match $p isa person; insert $p has age 30;").get());
+        }
+    }
+
+    @Test
+    public void insertAll_matchAll_and_deleteAll_answer_each_query_in_order() {
+        List<String> inserts = IntStream.range(0, 3).mapToObj(i -> insertPerson("person-" + i)).collect(toList());
+        try (TypeDBTransaction tx = session.transaction(WRITE)) {
+            List<Stream<ConceptMap>> inserted = tx.query().insertAll(inserts);
+            assertEquals(3, inserted.size());
+            inserted.forEach(answers -> assertEquals(1, answers.count()));
+
+            List<String> matches = IntStream.range(0, 3)
+                    .mapToObj(i -> "match $p isa person, has name \"person-" + i + "\";").collect(toList());
+            List<Stream<ConceptMap>> matched = tx.query().matchAll(matches);
+            assertEquals(3, matched.size());
+            matched.forEach(answers -> assertEquals(1, answers.count()));
+
+            tx.query().deleteAll(matches.subList(0, 2).stream().map(match -> match + " delete $p isa person;")
+                                         .collect(toList())).get();
+            tx.commit();
+        }
+        assertEquals(1, count("match $p isa person;"));
+    }
+
+    @Test
+    public void query_groups_larger_than_one_message_are_split() {
+        List<String> inserts = IntStream.range(0, 2_500).mapToObj(i -> insertPerson("person-" + i)).collect(toList());
+        try (TypeDBTransaction tx = session.transaction(WRITE)) {
+            assertEquals(2_500, tx.query().insertAll(inserts).stream().mapToLong(Stream::count).sum());
+            List<String> matches = IntStream.range(0, 2_500)
+                    .mapToObj(i -> "match $p isa person, has name \"person-" + i + "\";").collect(toList());
+            tx.query().matchAll(matches).forEach(answers -> assertEquals(1, answers.count()));
+            tx.commit();
+        }
+        assertEquals(2_500, count("match $p isa person;"));
+    }
+
+    @Test
+    public void prepared_query_binds_and_escapes_values() {
+        PreparedQuery insert = PreparedQuery.prepare("insert $p isa person, has name ?name, has age ?age;");
+        PreparedQuery match = PreparedQuery.prepare("match $p isa person, has name ?name; # ?age is not a parameter");
+        String name = "quote \" and backslash \\ ?age";
+        try (TypeDBTransaction tx = session.transaction(WRITE)) {
+            assertEquals(1, (long) tx.query().insertCount(insert.bind().set("name", name).set("age", 30)).get());
+            tx.commit();
+        }
+        try (TypeDBTransaction tx = session.transaction(READ)) {
+            List<ConceptMap> answers = tx.query().match(match.bind().set("name", name)).collect(toList());
+            assertEquals(1, answers.size());
+            assertEquals(name, answers.get(0).get("p").asThing().asRemote(tx).getHas().filter(Attribute::isString)
+                    .findAny().get().asString().getValue());
+        }
+    }
+
+    @Test
+    public void prepared_query_rejects_invalid_bindings() {
+        PreparedQuery query = PreparedQuery.prepare("match $p isa person, has name ?name, has age ?age;");
+        assertThrows(PARAMETER_DOES_NOT_EXIST, () -> query.bind().set("height", 1));
+        assertThrows(PARAMETER_NOT_BOUND, () -> query.bind().set("name", "alice").query());
+        assertThrows(PARAMETER_NOT_FINITE, () -> query.bind().set("age", Double.NaN));
+        assertThrows(PARAMETER_NOT_FINITE, () -> query.bind().set("age", Double.POSITIVE_INFINITY));
+        assertThrows(PARAMETER_CONTROL_CHARACTER, () -> query.bind().set("name", "line\nbreak"));
+        assertThrows(PARAMETER_CONTROL_CHARACTER, () -> query.bind().set("name", "tab\there"));
+        assertEquals("match $p isa person, has name \"alice\", has age 2.5;",
+                     query.bind().set("name", "alice").set("age", 2.5).query());
+    }
+
+    private static String insertPerson(String name) {
+        return "insert $p isa person, has name \"" + name + "\";";
+    }
+
+    private long count(String match) {
+        try (TypeDBTransaction tx = session.transaction(READ)) {
+            return tx.query().match(match).count();
+        }
+    }
+}
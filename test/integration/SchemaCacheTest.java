@@ -0,0 +1,143 @@
+/*
+ * Copyright (C) 2021 Vaticle
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.vaticle.typedb.client.test.integration;
+
+import com.vaticle.typedb.client.api.concept.SchemaSnapshot;
+import com.vaticle.typedb.client.api.connection.TypeDBSession;
+import com.vaticle.typedb.client.api.connection.TypeDBTransaction;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static com.vaticle.typedb.client.api.connection.TypeDBSession.Type.DATA;
+import static com.vaticle.typedb.client.api.connection.TypeDBSession.Type.SCHEMA;
+import static com.vaticle.typedb.client.api.connection.TypeDBTransaction.Type.READ;
+import static com.vaticle.typedb.client.api.connection.TypeDBTransaction.Type.WRITE;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class SchemaCacheTest extends CoreIntegrationTest {
+
+    private static final String RULE = "define rule named-bob: when { $p isa person; } then { $p has name \"bob\"; };";
+    private TypeDBSession session;
+
+    @Before
+    public void setUp() {
+        resetDatabase(PERSON_SCHEMA);
+        session = client.session(DATABASE, SCHEMA);
+    }
+
+    @After
+    public void tearDown() {
+        session.close();
+    }
+
+    @Test
+    public void schema_snapshot_is_reused_until_a_schema_commit() {
+        SchemaSnapshot before = session.schemaSnapshot();
+        assertSame(before, session.schemaSnapshot());
+        assertNotNull(before.getThingType("person"));
+
+        defineInSession("define company sub entity;");
+        SchemaSnapshot after = session.schemaSnapshot();
+        assertNotSame(before, after);
+        assertNull(before.getThingType("company"));
+        assertNotNull(after.getThingType("company"));
+        assertSame(after, session.schemaSnapshot());
+    }
+
+    @Test
+    public void schema_commit_refreshes_the_snapshot_of_other_sessions() {
+        try (TypeDBSession dataSession = client.session(DATABASE, DATA)) {
+            assertNull(dataSession.schemaSnapshot().getThingType("company"));
+            defineInSession("define company sub entity;");
+            assertNotNull(dataSession.schemaSnapshot().getThingType("company"));
+        }
+    }
+
+    @Test
+    public void type_lookups_see_schema_changes_made_in_the_same_transaction() {
+        try (TypeDBTransaction tx = session.transaction(WRITE)) {
+            assertNull(tx.concepts().getThingType("company"));
+            tx.query().define("define company sub entity;");
+            assertNotNull(tx.concepts().getEntityType("company"));
+
+            tx.concepts().getThingType("company").asRemote(tx).setLabel("organisation");
+            assertNull(tx.concepts().getThingType("company"));
+            assertNotNull(tx.concepts().getEntityType("organisation"));
+
+            tx.concepts().getThingType("organisation").asRemote(tx).delete();
+            assertNull(tx.concepts().getThingType("organisation"));
+
+            assertNull(tx.concepts().getThingType("employer"));
+            tx.concepts().putEntityType("employer");
+            assertNotNull(tx.concepts().getEntityType("employer"));
+        }
+    }
+
+    @Test
+    public void type_lookups_see_types_defined_by_an_earlier_commit() {
+        try (TypeDBTransaction tx = session.transaction(WRITE)) {
+            assertNull(tx.concepts().getThingType("company"));
+        }
+        defineInSession("define company sub entity;");
+        try (TypeDBTransaction tx = session.transaction(WRITE)) {
+            assertNotNull(tx.concepts().getEntityType("company"));
+        }
+    }
+
+    @Test
+    public void rules_are_refreshed_after_a_schema_commit_through_another_session() {
+        try (TypeDBSession dataSession = client.session(DATABASE, DATA)) {
+            try (TypeDBTransaction tx = dataSession.transaction(READ)) {
+                assertNull(tx.logic().getRule("named-bob"));
+                assertEquals(0, tx.logic().getRules().count());
+            }
+            defineInSession(RULE);
+            try (TypeDBTransaction tx = dataSession.transaction(READ)) {
+                assertNotNull(tx.logic().getRule("named-bob"));
+                assertEquals(1, tx.logic().getRules().count());
+            }
+        }
+    }
+
+    @Test
+    public void rule_lookups_see_rules_defined_in_the_same_transaction() {
+        try (TypeDBTransaction tx = session.transaction(WRITE)) {
+            assertNull(tx.logic().getRule("named-bob"));
+            tx.query().define(RULE);
+            assertNotNull(tx.logic().getRule("named-bob"));
+            tx.logic().getRule("named-bob").asRemote(tx).delete();
+            assertNull(tx.logic().getRule("named-bob"));
+        }
+    }
+
+    private void defineInSession(String query) {
+        try (TypeDBTransaction tx = session.transaction(WRITE)) {
+            tx.query().define(query);
+            tx.commit();
+        }
+    }
+}